@@ -0,0 +1,19 @@
+package com.jobprocessor.jobprocessor.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Wall-clock source for timestamps the services write. Tests substitute a fixed or
+ * advancing clock; elapsed-time measurements keep using {@link System#nanoTime()}.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -1,22 +1,83 @@
 package com.jobprocessor.jobprocessor.config;
 
+import com.jobprocessor.jobprocessor.model.Job;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "job-processor")
 public class JobProcessorProperties {
 
     private Worker worker = new Worker();
+    // Named queues besides the default one, which runs with the worker settings above
+    private Map<String, Worker> queues = new LinkedHashMap<>();
     private RateLimit rateLimit = new RateLimit();
+    private StatusCache statusCache = new StatusCache();
+    private Admission admission = new Admission();
+    private Tracing tracing = new Tracing();
+    private Redrive redrive = new Redrive();
+    private Dedup dedup = new Dedup();
+    private Partitioning partitioning = new Partitioning();
+    private Recurring recurring = new Recurring();
+    private LoadShedding loadShedding = new LoadShedding();
+    private Results results = new Results();
+    private ChangeFeed changeFeed = new ChangeFeed();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Capture capture = new Capture();
+    private Replay replay = new Replay();
+
+    /**
+     * Settings for the named queue, or null if no such queue is configured.
+     */
+    public Worker workerFor(String queue) {
+        return Job.DEFAULT_QUEUE.equals(queue) ? worker : queues.get(queue);
+    }
 
     @Data
     public static class Worker {
+        private boolean enabled = true;
         private long pollIntervalMs = 1000;
+        private long maxPollIntervalMs = 30000;
+        private double pollBackoffMultiplier = 2.0;
+        // Grace past a job's timeout before another node reclaims it from a node that stopped acknowledging
         private int leaseDurationSeconds = 30;
+        // Read from job-processor.worker only
+        private long leaseReclaimIntervalMs = 10000;
         private int maxRetries = 3;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 16;
+        private int initialConcurrency = 4;
+        private long targetLatencyMs = 2000;
+        private double maxErrorRate = 0.5;
+        private int adjustmentWindow = 20;
+        private double concurrencyDecreaseFactor = 0.7;
+        private long defaultTimeoutMs = 60000;
+        // How long shutdown waits for running jobs before releasing them back to PENDING
+        private long drainTimeoutMs = 20000;
+        private Map<String, Long> typeTimeoutsMs = new HashMap<>();
+
+        public long timeoutMsFor(Job job) {
+            if (job.getTimeoutMs() != null) {
+                return job.getTimeoutMs();
+            }
+            Long typeTimeoutMs = typeTimeoutsMs.get(job.getJobType());
+            return typeTimeoutMs != null ? typeTimeoutMs : defaultTimeoutMs;
+        }
+
+        /**
+         * How long a lease on the job lasts: its execution timeout, after which the owning
+         * node acknowledges it as timed out, plus the lease duration as grace.
+         */
+        public Duration leaseFor(Job job) {
+            return Duration.ofMillis(timeoutMsFor(job)).plusSeconds(leaseDurationSeconds);
+        }
     }
 
     @Data
@@ -25,4 +86,118 @@ public class JobProcessorProperties {
         private int maxJobsPerMinutePerTenant = 10;
         private int windowSizeSeconds = 60;
     }
+
+    @Data
+    public static class StatusCache {
+        private long maxWeightBytes = 64L * 1024 * 1024;
+        private long nonTerminalTtlMs = 1000;
+        private long terminalTtlMs = 60000;
+    }
+
+    @Data
+    public static class Admission {
+        private boolean asyncEnabled = false;
+        private int bufferCapacity = 10000;
+        private int writerBatchSize = 200;
+        private long writerLingerMs = 5;
+        private long writerMaxBackoffMs = 5000;
+        private long retryAfterSeconds = 1;
+    }
+
+    @Data
+    public static class Tracing {
+        private int ringBufferSize = 8192;
+    }
+
+    @Data
+    public static class Redrive {
+        private int batchSize = 200;
+        private int defaultRatePerSecond = 200;
+        private int maxRatePerSecond = 5000;
+    }
+
+    @Data
+    public static class Dedup {
+        private boolean enabled = false;
+        private long orphanSweepIntervalMs = 5000;
+    }
+
+    @Data
+    public static class Partitioning {
+        // Changing the count remaps new jobs only; on startup a node moves rows left at or above the count
+        private int partitionCount = 16;
+        private int candidatesPerLease = 8;
+        private long emptyPartitionBackoffMs = 500;
+    }
+
+    @Data
+    public static class Recurring {
+        private boolean enabled = true;
+        private long reloadIntervalMs = 30000;
+    }
+
+    @Data
+    public static class LoadShedding {
+        private boolean enabled = true;
+        private long globalSoftWatermark = 50000;
+        private long globalHardWatermark = 100000;
+        private long tenantHardWatermark = 10000;
+        // Above the soft watermark, jobs with a lower priority are rejected; 0 keeps default-priority jobs
+        private int shedPriorityBelow = 0;
+        private long reconcileIntervalMs = 5000;
+        private long maxRetryAfterSeconds = 300;
+    }
+
+    @Data
+    public static class Results {
+        private String directory = "./data/results";
+        private long segmentSizeBytes = 64L * 1024 * 1024;
+        private long retentionHours = 168;
+        private long sweepIntervalMs = 3600000;
+    }
+
+    @Data
+    public static class ChangeFeed {
+        private boolean enabled = true;
+        private long pollIntervalMs = 500;
+        // How long a subscriber waits for a missing sequence number to commit before treating it as rolled back
+        private long gapTimeoutMs = 30000;
+        private int batchSize = 500;
+        private long heartbeatIntervalMs = 15000;
+        private long emitterTimeoutMs = 1800000;
+        private long retentionHours = 72;
+        private long purgeIntervalMs = 600000;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        // Most recent outcomes per job type and tenant that the failure rate is taken over
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private long openDurationMs = 30000;
+        private int halfOpenProbes = 3;
+        // Closed breakers that see no outcomes for this long are dropped
+        private long idleEvictionMs = 600000;
+    }
+
+    @Data
+    public static class Capture {
+        private boolean enabled = false;
+        private String file = "./data/workload.trace";
+        // Events beyond this backlog are dropped rather than slowing submissions down
+        private int bufferCapacity = 65536;
+        // Submissions whose executions can still be linked to them
+        private int maxTrackedJobs = 100000;
+    }
+
+    @Data
+    public static class Replay {
+        private String file = "./data/workload.trace";
+        // 2.0 replays twice as fast: arrivals and handler durations are both compressed
+        private double speed = 1.0;
+        private long drainTimeoutMs = 600000;
+        private boolean exitOnCompletion = true;
+    }
 }
@@ -2,6 +2,21 @@ package com.jobprocessor.jobprocessor.config;
 
 import com.jobprocessor.jobprocessor.model.JobStatus;
 import com.jobprocessor.jobprocessor.repository.JobRepository;
+import com.jobprocessor.jobprocessor.repository.ReadyJobRepository;
+import com.jobprocessor.jobprocessor.service.AdmissionControlService;
+import com.jobprocessor.jobprocessor.service.ChangeFeedService;
+import com.jobprocessor.jobprocessor.service.CircuitBreakerService;
+import com.jobprocessor.jobprocessor.service.JobAdmissionPipeline;
+import com.jobprocessor.jobprocessor.service.JobDeduplicationService;
+import com.jobprocessor.jobprocessor.service.JobService;
+import com.jobprocessor.jobprocessor.service.JobStatusCache;
+import com.jobprocessor.jobprocessor.service.JobWatchdog;
+import com.jobprocessor.jobprocessor.service.RecurringJobService;
+import com.jobprocessor.jobprocessor.service.ResultStore;
+import com.jobprocessor.jobprocessor.service.StartupTracker;
+import com.jobprocessor.jobprocessor.service.WorkerService;
+import com.jobprocessor.jobprocessor.service.WorkloadCaptureService;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.micrometer.metrics.autoconfigure.MeterRegistryCustomizer;
@@ -12,7 +27,21 @@ import org.springframework.context.annotation.Configuration;
 public class MetricsConfig {
 
     @Bean
-    public MeterRegistryCustomizer<MeterRegistry> metricsCustomizer(JobRepository jobRepository) {
+    public MeterRegistryCustomizer<MeterRegistry> metricsCustomizer(JobRepository jobRepository,
+                                                                ReadyJobRepository readyJobRepository,
+                                                                JobStatusCache jobStatusCache,
+                                                                JobAdmissionPipeline jobAdmissionPipeline,
+                                                                WorkerService workerService,
+                                                                JobWatchdog jobWatchdog,
+                                                                JobDeduplicationService jobDeduplicationService,
+                                                                JobService jobService,
+                                                                RecurringJobService recurringJobService,
+                                                                StartupTracker startupTracker,
+                                                                AdmissionControlService admissionControlService,
+                                                                ResultStore resultStore,
+                                                                ChangeFeedService changeFeedService,
+                                                                CircuitBreakerService circuitBreakerService,
+                                                                WorkloadCaptureService workloadCaptureService) {
         return registry -> {
             Gauge.builder("job.processor.pending", () ->
                             jobRepository.countByStatus(JobStatus.PENDING))
@@ -38,6 +67,220 @@ public class MetricsConfig {
                             jobRepository.countByStatus(JobStatus.DLQ))
                     .description("Number of DLQ jobs")
                     .register(registry);
+
+            FunctionCounter.builder("job.processor.status.cache.hits", jobStatusCache,
+                            cache -> cache.stats().hitCount())
+                    .description("Job status lookups served from cache")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.status.cache.misses", jobStatusCache,
+                            cache -> cache.stats().missCount())
+                    .description("Job status lookups that went to the database")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.status.cache.evictions", jobStatusCache,
+                            cache -> cache.stats().evictionCount())
+                    .description("Job status cache entries evicted by weight or expiry")
+                    .register(registry);
+
+            Gauge.builder("job.processor.status.cache.hit.ratio", () ->
+                            jobStatusCache.stats().hitRate())
+                    .description("Job status cache hit ratio")
+                    .register(registry);
+
+            Gauge.builder("job.processor.status.cache.size", jobStatusCache::estimatedSize)
+                    .description("Approximate number of cached job statuses")
+                    .register(registry);
+
+            Gauge.builder("job.processor.admission.buffer.depth", jobAdmissionPipeline::getBufferDepth)
+                    .description("Jobs accepted asynchronously but not yet persisted")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.admission.accepted", jobAdmissionPipeline,
+                            JobAdmissionPipeline::getAcceptedJobs)
+                    .description("Jobs accepted into the admission buffer")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.admission.rejected", jobAdmissionPipeline,
+                            JobAdmissionPipeline::getRejectedJobs)
+                    .description("Submissions rejected because the admission buffer was full")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.admission.persisted", jobAdmissionPipeline,
+                            JobAdmissionPipeline::getPersistedJobs)
+                    .description("Buffered jobs written by the admission writer")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.admission.batches", jobAdmissionPipeline,
+                            JobAdmissionPipeline::getWrittenBatches)
+                    .description("Group commits performed by the admission writer")
+                    .register(registry);
+
+            for (String queue : workerService.getQueues()) {
+                Gauge.builder("job.processor.queue.ready", () -> readyJobRepository.countByQueue(queue))
+                        .description("Jobs waiting in the ready queue")
+                        .tag("queue", queue)
+                        .register(registry);
+
+                Gauge.builder("job.processor.worker.concurrency.limit", () -> workerService.getConcurrencyLimit(queue))
+                        .description("Current adaptive worker concurrency limit")
+                        .tag("queue", queue)
+                        .register(registry);
+
+                Gauge.builder("job.processor.worker.in.flight", () -> workerService.getInFlight(queue))
+                        .description("Jobs currently executing on this node")
+                        .tag("queue", queue)
+                        .register(registry);
+
+                Gauge.builder("job.processor.worker.poll.delay", () -> workerService.getPollDelayMs(queue))
+                        .description("Current idle poll delay in milliseconds")
+                        .baseUnit("milliseconds")
+                        .tag("queue", queue)
+                        .register(registry);
+
+                FunctionCounter.builder("job.processor.worker.empty.polls", workerService,
+                                worker -> worker.getEmptyPolls(queue))
+                        .description("Lease attempts that found no work")
+                        .tag("queue", queue)
+                        .register(registry);
+
+                FunctionCounter.builder("job.processor.worker.batches", workerService,
+                                worker -> worker.getExecutedBatches(queue))
+                        .description("Handler calls made for batch-aware job types")
+                        .tag("queue", queue)
+                        .register(registry);
+
+                FunctionCounter.builder("job.processor.worker.batched.jobs", workerService,
+                                worker -> worker.getBatchedJobs(queue))
+                        .description("Jobs executed as part of a batch")
+                        .tag("queue", queue)
+                        .register(registry);
+            }
+
+            FunctionCounter.builder("job.processor.worker.timeouts", jobWatchdog,
+                            JobWatchdog::getTimedOutExecutions)
+                    .description("Executions reclaimed by the watchdog after missing their deadline")
+                    .register(registry);
+
+            Gauge.builder("job.processor.worker.abandoned.threads", jobWatchdog::getAbandonedThreads)
+                    .description("Timed-out handler threads that have not returned yet")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.dedup.executions.saved", jobDeduplicationService,
+                            JobDeduplicationService::getSavedExecutions)
+                    .description("Deduplicated jobs completed with their leader's outcome instead of executing")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.lease.attempts", jobService, JobService::getLeaseAttempts)
+                    .description("Conditional lease updates issued")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.lease.conflicts", jobService, JobService::getLeaseConflicts)
+                    .description("Lease updates lost to another worker")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.lease.reclaimed", jobService, JobService::getReclaimedLeases)
+                    .description("Leases expired on a node that stopped acknowledging and failed by this node")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.lease.partition.scans", jobService,
+                            JobService::getPartitionScans)
+                    .description("Partition candidate queries issued by lease attempts")
+                    .register(registry);
+
+            Gauge.builder("job.processor.lease.conflict.ratio", () -> {
+                        long attempts = jobService.getLeaseAttempts();
+                        return attempts == 0 ? 0.0 : (double) jobService.getLeaseConflicts() / attempts;
+                    })
+                    .description("Share of lease updates lost to another worker since startup")
+                    .register(registry);
+
+            Gauge.builder("job.processor.admission.pending.depth", admissionControlService::getPendingDepth)
+                    .description("Leasable jobs across the cluster as last seen by this node's admission control")
+                    .register(registry);
+
+            Gauge.builder("job.processor.admission.drain.rate", admissionControlService::getDrainRatePerSecond)
+                    .description("Smoothed rate at which the cluster finishes jobs, per second")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.admission.shed", admissionControlService,
+                            AdmissionControlService::getShedJobs)
+                    .description("Submissions rejected because the pending backlog was past a watermark")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.results.stored", resultStore, ResultStore::getStoredBytes)
+                    .description("Result bytes appended to the result store")
+                    .baseUnit("bytes")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.results.segments.deleted", resultStore,
+                            ResultStore::getDeletedSegments)
+                    .description("Result segments deleted after their retention")
+                    .register(registry);
+
+            Gauge.builder("job.processor.changefeed.subscribers", changeFeedService::getSubscribers)
+                    .description("Open change feed streams on this node")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.changefeed.recorded", changeFeedService,
+                            ChangeFeedService::getRecordedChanges)
+                    .description("Job transitions written to the change feed")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.changefeed.delivered", changeFeedService,
+                            ChangeFeedService::getDeliveredChanges)
+                    .description("Change feed events sent to subscribers")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.changefeed.gaps.skipped", changeFeedService,
+                            ChangeFeedService::getSkippedGaps)
+                    .description("Missing sequence numbers a subscriber gave up waiting for")
+                    .register(registry);
+
+            Gauge.builder("job.processor.breaker.open", circuitBreakerService::getOpenBreakers)
+                    .description("Job type and tenant pairs this node has stopped leasing")
+                    .register(registry);
+
+            Gauge.builder("job.processor.breaker.half.open", circuitBreakerService::getHalfOpenBreakers)
+                    .description("Job type and tenant pairs this node is probing after an open period")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.breaker.opened", circuitBreakerService,
+                            CircuitBreakerService::getOpenedBreakers)
+                    .description("Times a circuit breaker opened, including reopening after a failed probe")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.capture.events", workloadCaptureService,
+                            WorkloadCaptureService::getCapturedEvents)
+                    .description("Submissions and executions written to the workload trace")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.capture.dropped", workloadCaptureService,
+                            WorkloadCaptureService::getDroppedEvents)
+                    .description("Workload trace events dropped because the capture writer fell behind")
+                    .register(registry);
+
+            Gauge.builder("job.processor.startup.first.lease.time", () -> {
+                        long uptimeMs = startupTracker.getFirstLeaseUptimeMs();
+                        return uptimeMs >= 0 ? uptimeMs : Double.NaN;
+                    })
+                    .description("Time from JVM start until this node leased its first job")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+
+            Gauge.builder("job.processor.recurring.scheduled", recurringJobService::getScheduledDefinitions)
+                    .description("Recurring job definitions with a pending firing on this node")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.recurring.materialized", recurringJobService,
+                            RecurringJobService::getMaterializedJobs)
+                    .description("Recurring firings submitted by this node, including slots another node created first")
+                    .register(registry);
+
+            FunctionCounter.builder("job.processor.recurring.failed", recurringJobService,
+                            RecurringJobService::getFailedFirings)
+                    .description("Recurring firings that could not be submitted")
+                    .register(registry);
         };
     }
 }
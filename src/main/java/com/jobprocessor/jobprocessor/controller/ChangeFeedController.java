@@ -0,0 +1,52 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of job transitions. Each event's id is its sequence number;
+ * a reconnecting client resumes with {@code Last-Event-ID}, a new one picks its starting
+ * point with {@code after} (0 for everything retained) or starts at the current end.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) String tenantId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        Long from = after;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                from = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Last-Event-ID must be a sequence number");
+            }
+        }
+        if (from != null && from < 0) {
+            throw new IllegalArgumentException("Sequence numbers start at 0");
+        }
+        return changeFeedService.subscribe(from, tenantId);
+    }
+
+    @ExceptionHandler(ChangeFeedService.ChangeFeedDisabledException.class)
+    public ResponseEntity<String> handleDisabled(ChangeFeedService.ChangeFeedDisabledException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidPosition(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -23,22 +23,7 @@ public class DashboardController {
 
     @GetMapping("/stats")
     public ResponseEntity<DashboardStats> getStats() {
-        long pending = jobService.getJobsByStatus(JobStatus.PENDING).size();
-        long running = jobService.getJobsByStatus(JobStatus.RUNNING).size();
-        long completed = jobService.getJobsByStatus(JobStatus.COMPLETED).size();
-        long failed = jobService.getJobsByStatus(JobStatus.FAILED).size();
-        long dlq = jobService.getJobsByStatus(JobStatus.DLQ).size();
-
-        DashboardStats stats = DashboardStats.builder()
-                .pendingJobs(pending)
-                .runningJobs(running)
-                .completedJobs(completed)
-                .failedJobs(failed)
-                .dlqJobs(dlq)
-                .totalJobs(pending + running + completed + failed + dlq)
-                .build();
-
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(jobService.getDashboardStats());
     }
 
     @GetMapping("/jobs")
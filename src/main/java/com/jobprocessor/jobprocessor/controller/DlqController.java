@@ -0,0 +1,50 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.dto.RedriveRequest;
+import com.jobprocessor.jobprocessor.dto.RedriveStatus;
+import com.jobprocessor.jobprocessor.service.DlqRedriveService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/dlq/redrives")
+@RequiredArgsConstructor
+@Slf4j
+public class DlqController {
+
+    private final DlqRedriveService dlqRedriveService;
+
+    @PostMapping
+    public ResponseEntity<RedriveStatus> startRedrive(@Valid @RequestBody RedriveRequest request) {
+        log.info("Starting DLQ redrive for tenant: {}", request.getTenantId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(dlqRedriveService.startRedrive(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RedriveStatus>> getRedrives() {
+        return ResponseEntity.ok(dlqRedriveService.getRedrives());
+    }
+
+    @GetMapping("/{redriveId}")
+    public ResponseEntity<RedriveStatus> getRedrive(@PathVariable UUID redriveId) {
+        return ResponseEntity.ok(dlqRedriveService.getRedrive(redriveId));
+    }
+
+    @DeleteMapping("/{redriveId}")
+    public ResponseEntity<RedriveStatus> cancelRedrive(@PathVariable UUID redriveId) {
+        log.info("Cancelling DLQ redrive: {}", redriveId);
+        return ResponseEntity.ok(dlqRedriveService.cancelRedrive(redriveId));
+    }
+
+    @ExceptionHandler(DlqRedriveService.RedriveNotFoundException.class)
+    public ResponseEntity<String> handleRedriveNotFound(DlqRedriveService.RedriveNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+}
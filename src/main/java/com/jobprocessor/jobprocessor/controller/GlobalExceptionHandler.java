@@ -2,6 +2,7 @@ package com.jobprocessor.jobprocessor.controller;
 
 import com.jobprocessor.jobprocessor.service.JobService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -19,11 +20,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
+    @ExceptionHandler(JobService.UnknownQueueException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<String> handleUnknownQueue(JobService.UnknownQueueException e) {
+        log.warn("Rejected job for unknown queue: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
     @ExceptionHandler(JobService.RateLimitExceededException.class)
     @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
     public ResponseEntity<String> handleRateLimitExceeded(JobService.RateLimitExceededException e) {
         log.warn("Rate limit exceeded: {}", e.getMessage());
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(JobService.OverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<String> handleOverloaded(JobService.OverloadedException e) {
+        log.warn("Rejecting request under load: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .body(e.getMessage());
     }
 
     @ExceptionHandler(Exception.class)
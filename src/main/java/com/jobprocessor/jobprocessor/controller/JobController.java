@@ -3,14 +3,23 @@ package com.jobprocessor.jobprocessor.controller;
 import com.jobprocessor.jobprocessor.dto.JobRequest;
 import com.jobprocessor.jobprocessor.dto.JobResponse;
 import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.service.JobAdmissionPipeline;
 import com.jobprocessor.jobprocessor.service.JobService;
+import com.jobprocessor.jobprocessor.service.JobStatusCache;
+import com.jobprocessor.jobprocessor.service.ResultStore;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,21 +30,90 @@ import java.util.UUID;
 public class JobController {
 
     private final JobService jobService;
+    private final JobAdmissionPipeline jobAdmissionPipeline;
+    private final ResultStore resultStore;
 
     @PostMapping
     public ResponseEntity<JobResponse> submitJob(
             @Valid @RequestBody JobRequest request,
-            @RequestHeader(value = "X-Tenant-Id", required = false, defaultValue = "default-tenant") String tenantId) {
+            @RequestHeader(value = "X-Tenant-Id", required = false, defaultValue = "default-tenant") String tenantId,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
 
         log.info("Submitting job for tenant: {}", tenantId);
+        if (prefer != null && prefer.contains("respond-async") && jobAdmissionPipeline.supports(request)) {
+            JobResponse response = jobAdmissionPipeline.admit(request, tenantId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + response.getId()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(response);
+        }
+
         JobResponse response = jobService.submitJob(request, tenantId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobResponse> getJobStatus(@PathVariable UUID jobId) {
+    public ResponseEntity<JobResponse> getJobStatus(@PathVariable UUID jobId, WebRequest webRequest) {
         JobResponse response = jobService.getJobStatus(jobId);
-        return ResponseEntity.ok(response);
+        String etag = JobStatusCache.etag(response);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<StreamingResponseBody> getJobResult(
+            @PathVariable UUID jobId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+
+        ResultStore.Location location = jobService.getJobResult(jobId);
+        if (!resultStore.isLocal(location)) {
+            throw new JobService.ResultNotFoundException("Result for job " + jobId + " is held by result store "
+                    + location.storeId() + " on another node");
+        }
+        if (!resultStore.exists(location)) {
+            throw new JobService.ResultNotFoundException("Result for job " + jobId + " is no longer retained");
+        }
+
+        long total = location.length();
+        long start = 0;
+        long end = total - 1;
+        HttpStatus status = HttpStatus.OK;
+        if (range != null) {
+            try {
+                // Multi-range requests are answered with the whole result
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(total);
+                    end = ranges.get(0).getRangeEnd(total);
+                    status = HttpStatus.PARTIAL_CONTENT;
+                }
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(total);
+            }
+            // HttpRange does not check a first position against the length
+            if (status == HttpStatus.PARTIAL_CONTENT && (start >= total || start > end)) {
+                return rangeNotSatisfiable(total);
+            }
+        }
+
+        long offset = start;
+        long length = end - start + 1;
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(length)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (status == HttpStatus.PARTIAL_CONTENT) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + total);
+        }
+        return response.body(out -> resultStore.transferTo(location, offset, length, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(long total) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + total)
+                .build();
     }
 
     @GetMapping("/status/{status}")
@@ -51,7 +129,21 @@ public class JobController {
 
     @ExceptionHandler(JobService.RateLimitExceededException.class)
     public ResponseEntity<String> handleRateLimitExceeded(JobService.RateLimitExceededException e) {
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(JobService.OverloadedException.class)
+    public ResponseEntity<String> handleOverloaded(JobService.OverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(JobService.ResultNotFoundException.class)
+    public ResponseEntity<String> handleResultNotFound(JobService.ResultNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
     @ExceptionHandler(JobService.JobNotFoundException.class)
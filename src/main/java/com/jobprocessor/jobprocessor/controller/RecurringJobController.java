@@ -0,0 +1,59 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.dto.RecurringJobRequest;
+import com.jobprocessor.jobprocessor.dto.RecurringJobResponse;
+import com.jobprocessor.jobprocessor.service.RecurringJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recurring-jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringJobController {
+
+    private final RecurringJobService recurringJobService;
+
+    @PutMapping("/{id}")
+    public ResponseEntity<RecurringJobResponse> upsertRecurringJob(
+            @PathVariable String id,
+            @Valid @RequestBody RecurringJobRequest request,
+            @RequestHeader(value = "X-Tenant-Id", required = false, defaultValue = "default-tenant") String tenantId) {
+
+        log.info("Saving recurring job {} for tenant: {}", id, tenantId);
+        return ResponseEntity.ok(recurringJobService.upsert(id, request, tenantId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecurringJobResponse>> getRecurringJobs() {
+        return ResponseEntity.ok(recurringJobService.getRecurringJobs());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RecurringJobResponse> getRecurringJob(@PathVariable String id) {
+        return ResponseEntity.ok(recurringJobService.getRecurringJob(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRecurringJob(@PathVariable String id) {
+        log.info("Deleting recurring job: {}", id);
+        recurringJobService.deleteRecurringJob(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(RecurringJobService.RecurringJobNotFoundException.class)
+    public ResponseEntity<String> handleRecurringJobNotFound(RecurringJobService.RecurringJobNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidDefinition(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
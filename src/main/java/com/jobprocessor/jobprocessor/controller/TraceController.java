@@ -0,0 +1,36 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.dto.JobTraceResponse;
+import com.jobprocessor.jobprocessor.service.SpanRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/traces")
+@RequiredArgsConstructor
+public class TraceController {
+
+    private final SpanRecorder spanRecorder;
+
+    @GetMapping("/slowest")
+    public ResponseEntity<List<JobTraceResponse>> getSlowestJobs(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(spanRecorder.slowest(Math.max(1, Math.min(limit, 500))));
+    }
+
+    @GetMapping("/{traceId}")
+    public ResponseEntity<JobTraceResponse> getTrace(@PathVariable String traceId) {
+        JobTraceResponse trace = spanRecorder.findByTraceId(traceId);
+        if (trace == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(trace);
+    }
+}
@@ -1,7 +1,6 @@
 package com.jobprocessor.jobprocessor.controller;
 
 import com.jobprocessor.jobprocessor.dto.DashboardStats;
-import com.jobprocessor.jobprocessor.model.JobStatus;
 import com.jobprocessor.jobprocessor.service.JobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,29 +16,20 @@ public class WebSocketController {
     private final SimpMessagingTemplate messagingTemplate;
     private final JobService jobService;
 
+    private DashboardStats lastBroadcast;
+
     @Scheduled(fixedRate = 2000)
     public void broadcastStats() {
         try {
-            long pending = jobService.getJobsByStatus(JobStatus.PENDING).size();
-            long running = jobService.getJobsByStatus(JobStatus.RUNNING).size();
-            long completed = jobService.getJobsByStatus(JobStatus.COMPLETED).size();
-            long failed = jobService.getJobsByStatus(JobStatus.FAILED).size();
-            long dlq = jobService.getJobsByStatus(JobStatus.DLQ).size();
-
-            DashboardStats stats = DashboardStats.builder()
-                    .pendingJobs(pending)
-                    .runningJobs(running)
-                    .completedJobs(completed)
-                    .failedJobs(failed)
-                    .dlqJobs(dlq)
-                    .totalJobs(pending + running + completed + failed + dlq)
-                    .build();
-
+            DashboardStats stats = jobService.getDashboardStats();
+            // Clients seed from /api/dashboard/stats on connect, so unchanged frames carry nothing
+            if (stats.equals(lastBroadcast)) {
+                return;
+            }
             messagingTemplate.convertAndSend("/topic/stats", stats);
+            lastBroadcast = stats;
         } catch (Exception e) {
             log.error("Error broadcasting stats: {}", e.getMessage(), e);
         }
     }
 }
-
-
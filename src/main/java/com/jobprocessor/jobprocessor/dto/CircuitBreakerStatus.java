@@ -0,0 +1,22 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import com.jobprocessor.jobprocessor.service.CircuitBreakerService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerStatus {
+    private String jobType;
+    private String tenantId;
+    private CircuitBreakerService.State state;
+    private double failureRate;
+    // When an open breaker starts probing, or a half-open one re-arms probes that never reported
+    private LocalDateTime nextTransitionAt;
+}
@@ -3,6 +3,8 @@ package com.jobprocessor.jobprocessor.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @Builder
 public class DashboardStats {
@@ -12,4 +14,6 @@ public class DashboardStats {
     private long failedJobs;
     private long dlqJobs;
     private long totalJobs;
+    // Open and half-open breakers on the node that served the stats
+    private List<CircuitBreakerStatus> circuitBreakers;
 }
@@ -0,0 +1,12 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import com.jobprocessor.jobprocessor.service.ResultStore;
+
+import java.util.UUID;
+
+/**
+ * One job's outcome within a batched acknowledgement. {@code result} is where its output
+ * was stored, or null.
+ */
+public record JobAcknowledgement(UUID jobId, boolean success, String errorMessage, ResultStore.Location result) {
+}
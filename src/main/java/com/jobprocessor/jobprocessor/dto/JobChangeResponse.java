@@ -0,0 +1,25 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChangeResponse {
+    private long sequence;
+    private UUID jobId;
+    private String tenantId;
+    private String type;
+    private JobStatus status;
+    private Integer retryCount;
+    private String errorMessage;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,16 @@
+package com.jobprocessor.jobprocessor.dto;
+
+/**
+ * What a handler returns for one execution. {@code result} is optional output, stored and
+ * served from {@code /api/jobs/{id}/result} when the job succeeds.
+ */
+public record JobOutcome(boolean success, String errorMessage, byte[] result) {
+
+    public static JobOutcome succeeded(byte[] result) {
+        return new JobOutcome(true, null, result);
+    }
+
+    public static JobOutcome failed(String errorMessage) {
+        return new JobOutcome(false, errorMessage, null);
+    }
+}
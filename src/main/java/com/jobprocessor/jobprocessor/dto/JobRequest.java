@@ -1,6 +1,8 @@
 package com.jobprocessor.jobprocessor.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
@@ -9,4 +11,15 @@ public class JobRequest {
     private String payload;
 
     private String idempotencyKey;
+
+    @Size(max = 100, message = "Type must be at most 100 characters")
+    private String type;
+
+    @Positive(message = "Timeout must be positive")
+    private Long timeoutMs;
+
+    private Integer priority;
+
+    @Size(max = 100, message = "Queue must be at most 100 characters")
+    private String queue;
 }
@@ -1,24 +1,35 @@
 package com.jobprocessor.jobprocessor.dto;
 
 import com.jobprocessor.jobprocessor.model.JobStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class JobResponse {
     private UUID id;
+    private String traceId;
     private String tenantId;
+    private String type;
+    private String queue;
     private JobStatus status;
+    private Integer priority;
     private String payload;
     private String idempotencyKey;
+    private UUID leaderJobId;
     private Integer retryCount;
     private Integer maxRetries;
     private String errorMessage;
+    private Integer resultBytes;
     private LocalDateTime createdAt;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,16 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class JobTraceResponse {
+    private String traceId;
+    private UUID jobId;
+    private long totalDurationMicros;
+    private List<TraceSpan> spans;
+}
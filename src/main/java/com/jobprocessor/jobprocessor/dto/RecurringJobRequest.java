@@ -0,0 +1,33 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class RecurringJobRequest {
+    @NotBlank(message = "Cron expression is required")
+    private String cron;
+
+    @NotBlank(message = "Payload is required")
+    private String payload;
+
+    @Size(max = 100, message = "Type must be at most 100 characters")
+    private String type;
+
+    private Integer priority;
+
+    @Size(max = 100, message = "Queue must be at most 100 characters")
+    private String queue;
+
+    @Positive(message = "Timeout must be positive")
+    private Long timeoutMs;
+
+    // Each firing is delayed by a stable offset in [0, jitterMs) so definitions sharing a cron don't fire together
+    @PositiveOrZero(message = "Jitter must not be negative")
+    private Long jitterMs;
+
+    private Boolean enabled;
+}
@@ -0,0 +1,28 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringJobResponse {
+    private String id;
+    private String tenantId;
+    private String cron;
+    private String payload;
+    private String type;
+    private String queue;
+    private Integer priority;
+    private Long timeoutMs;
+    private Long jitterMs;
+    private Boolean enabled;
+    private LocalDateTime nextFireAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RedriveRequest {
+    private String tenantId;
+
+    // SQL LIKE pattern matched against the job's last error message, e.g. "%Connection refused%"
+    private String errorMessagePattern;
+
+    private LocalDateTime dlqAfter;
+    private LocalDateTime dlqBefore;
+
+    @Positive(message = "Rate must be positive")
+    private Integer ratePerSecond;
+}
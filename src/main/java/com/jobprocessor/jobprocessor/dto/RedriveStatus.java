@@ -0,0 +1,33 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class RedriveStatus {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    private UUID id;
+    private State state;
+    private String tenantId;
+    private String errorMessagePattern;
+    private LocalDateTime dlqAfter;
+    private LocalDateTime dlqBefore;
+    private int ratePerSecond;
+    private long scannedJobs;
+    private long redrivenJobs;
+    private String failureReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
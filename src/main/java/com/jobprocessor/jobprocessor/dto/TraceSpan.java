@@ -0,0 +1,18 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import java.util.UUID;
+
+public record TraceSpan(String traceId, UUID jobId, Stage stage, long startEpochMillis, long durationMicros) {
+
+    public enum Stage {
+        SUBMIT,
+        QUEUED,
+        LEASED,
+        EXECUTING,
+        ACKED
+    }
+
+    public long endEpochMicros() {
+        return startEpochMillis * 1000 + durationMicros;
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobprocessor.jobprocessor.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controls one flight recording on this node: {@code POST /actuator/jfr} starts it,
+ * {@code DELETE /actuator/jfr} stops it, and {@code GET /actuator/jfr/{id}} downloads it,
+ * taking a snapshot if it is still running. Only the latest dump is kept on disk.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrEndpoint {
+
+    private static final String[] JOB_EVENTS = {
+            "jobprocessor.JobSubmit", "jobprocessor.JobLease", "jobprocessor.JobExecute", "jobprocessor.JobAck"
+    };
+
+    private Recording recording;
+    private Path dumpFile;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe();
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings,
+                                                  @Nullable Integer maxAgeSeconds) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("Recording " + recording.getId() + " is already running");
+        }
+        closeRecording();
+
+        recording = new Recording(Configuration.getConfiguration(settings != null ? settings : "default"));
+        for (String event : JOB_EVENTS) {
+            recording.enable(event);
+        }
+        recording.setName("jobprocessor");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds != null ? maxAgeSeconds : 600));
+        recording.start();
+        log.info("Started flight recording {}", recording.getId());
+        return describe();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return describe();
+        }
+        recording.stop();
+        dump();
+        log.info("Stopped flight recording {}, written to {}", recording.getId(), dumpFile);
+        return describe();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector long recordingId) throws IOException {
+        if (recording == null || recording.getId() != recordingId) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            dump();
+        }
+        return dumpFile != null ? new FileSystemResource(dumpFile) : null;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        closeRecording();
+    }
+
+    // A download still streaming the previous snapshot keeps its open handle after the delete
+    private void dump() throws IOException {
+        Path file = Files.createTempFile("jobprocessor-" + recording.getId() + "-", ".jfr");
+        recording.dump(file);
+        if (dumpFile != null) {
+            Files.deleteIfExists(dumpFile);
+        }
+        dumpFile = file;
+    }
+
+    private void closeRecording() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (dumpFile != null) {
+            Files.deleteIfExists(dumpFile);
+            dumpFile = null;
+        }
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("id", recording.getId());
+        status.put("state", recording.getState());
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("download", "/actuator/jfr/" + recording.getId());
+        return status;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobprocessor.jobprocessor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("jobprocessor.JobAck")
+@Label("Job Acknowledge")
+@Category("Job Processor")
+@Description("Recording an execution's outcome, including follower resolution")
+public class JobAckEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Tenant")
+    public String tenantId;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Resulting Status")
+    @Description("Empty when the acknowledgement was ignored")
+    public String status;
+
+    @Label("Retry Count")
+    public int retryCount;
+}
@@ -0,0 +1,34 @@
+package com.jobprocessor.jobprocessor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("jobprocessor.JobExecute")
+@Label("Job Execute")
+@Category("Job Processor")
+@Description("Handler execution on a worker thread")
+public class JobExecuteEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Tenant")
+    public String tenantId;
+
+    @Label("Job Type")
+    public String jobType;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Result Size")
+    @DataAmount
+    public long resultBytes;
+}
@@ -0,0 +1,36 @@
+package com.jobprocessor.jobprocessor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("jobprocessor.JobLease")
+@Label("Job Lease")
+@Category("Job Processor")
+@Description("One lease call, across every partition it scanned")
+public class JobLeaseEvent extends Event {
+
+    @Label("Job Id")
+    @Description("Empty when nothing was leased")
+    public String jobId;
+
+    @Label("Queue")
+    public String queue;
+
+    @Label("Tenant")
+    public String tenantId;
+
+    @Label("Partitions Scanned")
+    public int partitionsScanned;
+
+    @Label("Lease Attempts")
+    public int attempts;
+
+    @Label("Lease Conflicts")
+    public int conflicts;
+
+    @Label("Leased")
+    public boolean leased;
+}
@@ -0,0 +1,27 @@
+package com.jobprocessor.jobprocessor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("jobprocessor.JobSubmit")
+@Label("Job Submit")
+@Category("Job Processor")
+@Description("Synchronous job submission, from rate limiting to the insert")
+public class JobSubmitEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Tenant")
+    public String tenantId;
+
+    @Label("Job Type")
+    public String jobType;
+
+    @Label("Outcome")
+    @Description("created, existing, deduplicated or rejected")
+    public String outcome;
+}
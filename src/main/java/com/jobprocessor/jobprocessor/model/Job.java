@@ -1,11 +1,17 @@
 package com.jobprocessor.jobprocessor.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -14,21 +20,54 @@ import java.util.UUID;
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_tenant_id", columnList = "tenantId"),
         @Index(name = "idx_idempotency_key", columnList = "idempotencyKey"),
-        @Index(name = "idx_created_at", columnList = "createdAt")
+        @Index(name = "idx_created_at", columnList = "createdAt"),
+        @Index(name = "idx_completed_at", columnList = "completedAt"),
+        @Index(name = "idx_tenant_payload_hash", columnList = "tenantId, payloadHash"),
+        @Index(name = "idx_leader_job_id", columnList = "leaderJobId"),
+        @Index(name = "idx_partition_id", columnList = "partitionId"),
+        @Index(name = "idx_result_segment", columnList = "resultStoreId, resultSegment")
 })
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Job {
+public class Job implements Persistable<UUID> {
 
+    public static final String DEFAULT_TYPE = "default";
+    public static final String DEFAULT_QUEUE = "default";
+
+    // Assigned by the application so jobs can be acknowledged before they are written
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Column(length = 16)
+    private String traceId;
+
     @Column(nullable = false)
     private String tenantId;
 
+    @Column(nullable = false, length = 100)
+    @ColumnDefault("'default'")
+    @Builder.Default
+    private String queue = DEFAULT_QUEUE;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer partitionId = 0;
+
+    // Higher leases first; only consulted through the ready queue
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer priority = 0;
+
+    @Column(length = 100)
+    private String jobType;
+
+    @Column
+    private Long timeoutMs;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     @Builder.Default
@@ -40,6 +79,13 @@ public class Job {
     @Column(unique = true)
     private String idempotencyKey;
 
+    @Column(length = 64)
+    private String payloadHash;
+
+    // Set on deduplicated followers; they are never leased and finish with their leader's outcome
+    @Column
+    private UUID leaderJobId;
+
     @Column(nullable = false)
     @Builder.Default
     private Integer retryCount = 0;
@@ -50,6 +96,19 @@ public class Job {
     @Column
     private String errorMessage;
 
+    // Where the handler's output lives in the result store; null when there is none
+    @Column(length = 36)
+    private String resultStoreId;
+
+    @Column
+    private Long resultSegment;
+
+    @Column
+    private Long resultOffset;
+
+    @Column
+    private Integer resultLength;
+
     @Column
     private LocalDateTime leasedAt;
 
@@ -59,24 +118,34 @@ public class Job {
     @Column
     private LocalDateTime completedAt;
 
+    // Stamped by the service from its clock, once per transition
     @Column(nullable = false, updatable = false)
-    @Builder.Default
-    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime createdAt;
 
     @Column(nullable = false)
-    @Builder.Default
-    private LocalDateTime updatedAt = LocalDateTime.now();
+    private LocalDateTime updatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 
-    @PreUpdate
-    public void preUpdate() {
-        this.updatedAt = LocalDateTime.now();
+    @Override
+    public boolean isNew() {
+        return !persisted;
     }
 
-    public boolean isLeaseExpired(int leaseDurationSeconds) {
+    public boolean isLeaseExpired(Duration lease, LocalDateTime now) {
         if (leasedAt == null) {
             return false;
         }
-        return leasedAt.plusSeconds(leaseDurationSeconds).isBefore(LocalDateTime.now());
+        return leasedAt.plus(lease).isBefore(now);
     }
 
     public boolean canRetry() {
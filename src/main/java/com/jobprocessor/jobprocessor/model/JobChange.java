@@ -0,0 +1,63 @@
+package com.jobprocessor.jobprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One job state transition in the change feed, written in the transaction that makes it.
+ * The identity column is the feed's sequence number and resume token.
+ */
+@Entity
+@Table(name = "job_changes", indexes = {
+        @Index(name = "idx_job_changes_occurred_at", columnList = "occurredAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID jobId;
+
+    @Column(nullable = false)
+    private String tenantId;
+
+    @Column(length = 100)
+    private String jobType;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    @Column(nullable = false)
+    private Integer retryCount;
+
+    @Column
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static JobChange of(Job job) {
+        return JobChange.builder()
+                .jobId(job.getId())
+                .tenantId(job.getTenantId())
+                .jobType(job.getJobType())
+                .status(job.getStatus())
+                .retryCount(job.getRetryCount())
+                .errorMessage(job.getErrorMessage())
+                .occurredAt(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -5,5 +5,9 @@ public enum JobStatus {
     RUNNING,
     COMPLETED,
     FAILED,
-    DLQ
+    DLQ;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == DLQ;
+    }
 }
@@ -0,0 +1,87 @@
+package com.jobprocessor.jobprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row per leasable job. Kept in the same transaction as the job's transitions into and
+ * out of PENDING, so leasing scans only the backlog and never the job history.
+ */
+@Entity
+@Table(name = "ready_queue", indexes = {
+        @Index(name = "idx_ready_queue_partition_priority_due", columnList = "queue, partitionId, priority, dueAt"),
+        @Index(name = "idx_ready_tenant_type_due", columnList = "tenantId, jobType, dueAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadyJob implements Persistable<UUID> {
+
+    @Id
+    private UUID jobId;
+
+    @Column(nullable = false, length = 100)
+    @ColumnDefault("'default'")
+    private String queue;
+
+    @Column(nullable = false)
+    private String tenantId;
+
+    // Lets batch leasing find compatible jobs without joining the jobs table
+    @Column(length = 100)
+    private String jobType;
+
+    @Column(nullable = false)
+    private Integer partitionId;
+
+    @Column(nullable = false)
+    private Integer priority;
+
+    @Column(nullable = false)
+    private LocalDateTime dueAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public static ReadyJob of(Job job, LocalDateTime dueAt) {
+        return ReadyJob.builder()
+                .jobId(job.getId())
+                .queue(job.getQueue())
+                .tenantId(job.getTenantId())
+                .jobType(job.getJobType())
+                .partitionId(job.getPartitionId())
+                .priority(job.getPriority())
+                .dueAt(dueAt)
+                .build();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public UUID getId() {
+        return jobId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobprocessor.jobprocessor.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "recurring_jobs", indexes = {
+        @Index(name = "idx_recurring_tenant_id", columnList = "tenantId")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringJob {
+
+    // Chosen by the caller; part of every materialized job's idempotency key
+    @Id
+    @Column(length = 100)
+    private String id;
+
+    @Column(nullable = false)
+    private String tenantId;
+
+    // Spring cron syntax: second minute hour day-of-month month day-of-week
+    @Column(nullable = false, length = 100)
+    private String cron;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(length = 100)
+    private String jobType;
+
+    @Column(length = 100)
+    private String queue;
+
+    @Column
+    private Integer priority;
+
+    @Column
+    private Long timeoutMs;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long jitterMs = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean enabled = true;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,87 @@
+package com.jobprocessor.jobprocessor.replay;
+
+import com.jobprocessor.jobprocessor.dto.JobOutcome;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.service.JobHandler;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stands in for every handler during a replay. Each replayed job carries its submission's
+ * sequence number in the payload, and each execution sleeps for the captured duration and
+ * returns the captured outcome, attempt by attempt.
+ */
+@Component
+@Profile("replay")
+public class ReplayJobHandler implements JobHandler {
+
+    private static final String PAYLOAD_PREFIX = "{\"replay\":";
+
+    private final Map<Long, Queue<WorkloadEvent.Execution>> executions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> firstLeaseLatenciesMs = new ConcurrentHashMap<>();
+    private volatile double speed = 1.0;
+
+    @Override
+    public String type() {
+        return Job.DEFAULT_TYPE;
+    }
+
+    public void load(Iterable<WorkloadEvent.Execution> captured, double speed) {
+        this.speed = speed;
+        for (WorkloadEvent.Execution execution : captured) {
+            executions.computeIfAbsent(execution.submitSequence(), sequence -> new ConcurrentLinkedQueue<>()).add(execution);
+        }
+    }
+
+    @Override
+    public JobOutcome handle(Job job) throws InterruptedException {
+        long sequence = sequenceOf(job.getPayload());
+        if (job.getRetryCount() == 0 && job.getStartedAt() != null) {
+            firstLeaseLatenciesMs.putIfAbsent(sequence,
+                    Duration.between(job.getCreatedAt(), job.getStartedAt()).toMillis());
+        }
+
+        Queue<WorkloadEvent.Execution> attempts = executions.get(sequence);
+        WorkloadEvent.Execution execution = attempts != null ? attempts.poll() : null;
+        // Never executed during the capture, or retried more often than it was
+        if (execution == null) {
+            return JobOutcome.succeeded(null);
+        }
+
+        TimeUnit.MICROSECONDS.sleep((long) (execution.durationMs() * 1000 / speed));
+        return execution.success() ? JobOutcome.succeeded(null) : JobOutcome.failed("Replayed failure");
+    }
+
+    public Map<Long, Long> getFirstLeaseLatenciesMs() {
+        return firstLeaseLatenciesMs;
+    }
+
+    /**
+     * A payload of the captured length that identifies the submission it replays.
+     */
+    public static String payloadFor(long sequence, int length) {
+        StringBuilder payload = new StringBuilder(Math.max(length, 32)).append(PAYLOAD_PREFIX).append(sequence);
+        // The pad field adds ten characters around its value
+        int padLength = length - payload.length() - 10;
+        if (padLength >= 0) {
+            payload.append(",\"pad\":\"").append("x".repeat(padLength)).append('"');
+        }
+        return payload.append('}').toString();
+    }
+
+    static long sequenceOf(String payload) {
+        int start = PAYLOAD_PREFIX.length();
+        int end = start;
+        while (end < payload.length() && Character.isDigit(payload.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(payload, start, end, 10);
+    }
+}
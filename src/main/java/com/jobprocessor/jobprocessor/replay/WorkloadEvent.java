@@ -0,0 +1,22 @@
+package com.jobprocessor.jobprocessor.replay;
+
+/**
+ * One entry of a workload trace. Offsets are milliseconds since the capture started.
+ */
+public sealed interface WorkloadEvent {
+
+    long offsetMs();
+
+    /**
+     * An accepted submission. Submissions are numbered by their order in the trace.
+     */
+    record Submit(long offsetMs, String tenantId, String jobType, String queue, int payloadLength,
+                  boolean idempotencyKey, int priority) implements WorkloadEvent {
+    }
+
+    /**
+     * One execution attempt of the job created by submission {@code submitSequence}.
+     */
+    record Execution(long offsetMs, long submitSequence, long durationMs, boolean success) implements WorkloadEvent {
+    }
+}
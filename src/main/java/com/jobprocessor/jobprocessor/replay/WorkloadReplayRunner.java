@@ -0,0 +1,184 @@
+package com.jobprocessor.jobprocessor.replay;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.controller.JobController;
+import com.jobprocessor.jobprocessor.dto.JobRequest;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import com.jobprocessor.jobprocessor.service.JobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays a captured workload trace back through {@link JobController} on this node, with
+ * {@link ReplayJobHandler} standing in for the handlers, then logs queueing latency and
+ * throughput. Submissions keep their captured spacing, divided by the replay speed.
+ */
+@Component
+@Profile("replay")
+@Slf4j
+public class WorkloadReplayRunner implements ApplicationRunner {
+
+    private final JobController jobController;
+    private final JobRepository jobRepository;
+    private final ReplayJobHandler replayJobHandler;
+    private final JobProcessorProperties.Replay config;
+    private final Clock clock;
+    private final ConfigurableApplicationContext context;
+
+    public WorkloadReplayRunner(JobController jobController, JobRepository jobRepository,
+                                ReplayJobHandler replayJobHandler, JobProcessorProperties properties,
+                                Clock clock, ConfigurableApplicationContext context) {
+        this.jobController = jobController;
+        this.jobRepository = jobRepository;
+        this.replayJobHandler = replayJobHandler;
+        this.config = properties.getReplay();
+        this.clock = clock;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        double speed = config.getSpeed() > 0 ? config.getSpeed() : 1.0;
+        Path file = Paths.get(config.getFile());
+        List<WorkloadEvent.Submit> submits = new ArrayList<>();
+        List<WorkloadEvent.Execution> executions = new ArrayList<>();
+        readTrace(file, submits, executions);
+        replayJobHandler.load(executions, speed);
+        log.info("Replaying {} submissions and {} executions from {} at {}x",
+                submits.size(), executions.size(), file, speed);
+
+        LocalDateTime replayStart = LocalDateTime.now(clock);
+        long startNanos = System.nanoTime();
+        int rejected = 0;
+        for (int sequence = 0; sequence < submits.size(); sequence++) {
+            WorkloadEvent.Submit submit = submits.get(sequence);
+            long dueNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(submit.offsetMs()) / speed);
+            for (long wait = dueNanos - System.nanoTime(); wait > 0; wait = dueNanos - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            try {
+                jobController.submitJob(toRequest(sequence, submit), submit.tenantId(), null);
+            } catch (JobService.RateLimitExceededException | JobService.OverloadedException
+                     | JobService.UnknownQueueException e) {
+                rejected++;
+            }
+        }
+        long submitSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+        log.info("Submitted {} jobs in {}s ({} rejected), waiting for them to finish",
+                submits.size() - rejected, submitSeconds, rejected);
+
+        boolean drained = awaitDrain();
+        report(replayStart, speed, rejected, drained);
+
+        if (config.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(context, () -> drained ? 0 : 1));
+        }
+    }
+
+    private void readTrace(Path file, List<WorkloadEvent.Submit> submits,
+                           List<WorkloadEvent.Execution> executions) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             WorkloadTraceReader reader = new WorkloadTraceReader(in)) {
+            WorkloadEvent event;
+            while ((event = reader.read()) != null) {
+                switch (event) {
+                    case WorkloadEvent.Submit submit -> submits.add(submit);
+                    case WorkloadEvent.Execution execution -> executions.add(execution);
+                }
+            }
+        } catch (EOFException e) {
+            log.warn("Workload trace {} ends mid-record; replaying what was complete", file);
+        }
+    }
+
+    private JobRequest toRequest(int sequence, WorkloadEvent.Submit submit) {
+        JobRequest request = new JobRequest();
+        request.setPayload(ReplayJobHandler.payloadFor(sequence, submit.payloadLength()));
+        request.setType(submit.jobType());
+        request.setQueue(submit.queue());
+        request.setPriority(submit.priority());
+        // Only presence is captured, so every keyed submission gets a key of its own
+        request.setIdempotencyKey(submit.idempotencyKey() ? "replay-" + sequence : null);
+        return request;
+    }
+
+    private boolean awaitDrain() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getDrainTimeoutMs());
+        while (System.nanoTime() < deadline) {
+            if (jobRepository.countByStatus(JobStatus.PENDING) + jobRepository.countByStatus(JobStatus.RUNNING) == 0) {
+                return true;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(500));
+        }
+        log.warn("Replay did not drain within {}ms", config.getDrainTimeoutMs());
+        return false;
+    }
+
+    private void report(LocalDateTime replayStart, double speed, int rejected, boolean drained) {
+        List<Job> finished = new ArrayList<>(jobRepository.findByStatus(JobStatus.COMPLETED));
+        finished.addAll(jobRepository.findByStatus(JobStatus.DLQ));
+
+        long[] completion = new long[finished.size()];
+        LocalDateTime lastCompletedAt = replayStart;
+        for (int i = 0; i < completion.length; i++) {
+            Job job = finished.get(i);
+            completion[i] = Duration.between(job.getCreatedAt(), job.getCompletedAt()).toMillis();
+            if (job.getCompletedAt().isAfter(lastCompletedAt)) {
+                lastCompletedAt = job.getCompletedAt();
+            }
+        }
+        long[] queueing = toArray(replayJobHandler.getFirstLeaseLatenciesMs().values());
+        double elapsedSeconds = Math.max(0.001, Duration.between(replayStart, lastCompletedAt).toMillis() / 1000.0);
+
+        log.info("Replay report ({}x, {}): {} finished, {} dead-lettered, {} rejected",
+                speed, drained ? "drained" : "timed out", finished.size(),
+                finished.stream().filter(job -> job.getStatus() == JobStatus.DLQ).count(), rejected);
+        log.info("  throughput: {} jobs/s over {}s", String.format("%.1f", finished.size() / elapsedSeconds),
+                String.format("%.1f", elapsedSeconds));
+        log.info("  queueing latency (submit to first lease): {}", percentiles(queueing));
+        log.info("  completion latency (submit to final outcome): {}", percentiles(completion));
+    }
+
+    private static long[] toArray(Collection<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    static String percentiles(long[] valuesMs) {
+        if (valuesMs.length == 0) {
+            return "no samples";
+        }
+        long[] sorted = valuesMs.clone();
+        Arrays.sort(sorted);
+        return String.format("p50=%dms p90=%dms p99=%dms max=%dms (n=%d)",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                sorted[sorted.length - 1], sorted.length);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobprocessor.jobprocessor.replay;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a trace written by {@link WorkloadTraceWriter}.
+ */
+public class WorkloadTraceReader implements Closeable {
+
+    private final DataInputStream in;
+    private final long startEpochMillis;
+    private final List<String> strings = new ArrayList<>();
+    private long lastOffsetMs;
+
+    public WorkloadTraceReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != WorkloadTraceWriter.MAGIC) {
+            throw new IOException("Not a workload trace");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != WorkloadTraceWriter.VERSION) {
+            throw new IOException("Unsupported workload trace version " + version);
+        }
+        this.startEpochMillis = this.in.readLong();
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Returns the next event, or null at the end of the trace. A record cut off by a
+     * capture that did not shut down cleanly fails with {@link EOFException}.
+     */
+    public WorkloadEvent read() throws IOException {
+        while (true) {
+            int tag = in.read();
+            switch (tag) {
+                case -1 -> {
+                    return null;
+                }
+                case WorkloadTraceWriter.TAG_STRING -> {
+                    byte[] bytes = new byte[(int) readVarLong()];
+                    in.readFully(bytes);
+                    strings.add(new String(bytes, StandardCharsets.UTF_8));
+                }
+                case WorkloadTraceWriter.TAG_SUBMIT -> {
+                    long offsetMs = readOffset();
+                    String tenantId = string(readVarLong());
+                    String jobType = string(readVarLong());
+                    String queue = string(readVarLong());
+                    int payloadLength = (int) readVarLong();
+                    int priority = (int) unzigzag(readVarLong());
+                    boolean idempotencyKey = (in.readUnsignedByte() & 1) != 0;
+                    return new WorkloadEvent.Submit(offsetMs, tenantId, jobType, queue, payloadLength,
+                            idempotencyKey, priority);
+                }
+                case WorkloadTraceWriter.TAG_EXECUTION -> {
+                    long offsetMs = readOffset();
+                    long submitSequence = readVarLong();
+                    long durationMs = readVarLong();
+                    boolean success = (in.readUnsignedByte() & 1) != 0;
+                    return new WorkloadEvent.Execution(offsetMs, submitSequence, durationMs, success);
+                }
+                default -> throw new IOException("Unknown workload trace record tag " + tag);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private String string(long index) throws IOException {
+        if (index >= strings.size()) {
+            throw new IOException("Workload trace references undefined string " + index);
+        }
+        return strings.get((int) index);
+    }
+
+    private long readOffset() throws IOException {
+        lastOffsetMs += unzigzag(readVarLong());
+        return lastOffsetMs;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in workload trace");
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobprocessor.jobprocessor.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes a workload trace. After a fixed header, each record is a tag byte followed by
+ * varints: offsets are zigzag-encoded deltas from the previous record, and tenants, types
+ * and queues are written once to a string table and referenced by index afterwards.
+ */
+public class WorkloadTraceWriter implements Closeable {
+
+    static final int MAGIC = 0x4a505754;
+    static final int VERSION = 1;
+
+    static final int TAG_STRING = 1;
+    static final int TAG_SUBMIT = 2;
+    static final int TAG_EXECUTION = 3;
+
+    private static final int FLAG_IDEMPOTENCY_KEY = 1;
+    private static final int FLAG_SUCCESS = 1;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private long lastOffsetMs;
+
+    public WorkloadTraceWriter(OutputStream out, long startEpochMillis) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.out.writeLong(startEpochMillis);
+    }
+
+    public void write(WorkloadEvent event) throws IOException {
+        switch (event) {
+            case WorkloadEvent.Submit submit -> {
+                int tenant = stringIndex(submit.tenantId());
+                int type = stringIndex(submit.jobType());
+                int queue = stringIndex(submit.queue());
+                out.writeByte(TAG_SUBMIT);
+                writeOffset(submit.offsetMs());
+                writeVarLong(tenant);
+                writeVarLong(type);
+                writeVarLong(queue);
+                writeVarLong(submit.payloadLength());
+                writeVarLong(zigzag(submit.priority()));
+                out.writeByte(submit.idempotencyKey() ? FLAG_IDEMPOTENCY_KEY : 0);
+            }
+            case WorkloadEvent.Execution execution -> {
+                out.writeByte(TAG_EXECUTION);
+                writeOffset(execution.offsetMs());
+                writeVarLong(execution.submitSequence());
+                writeVarLong(execution.durationMs());
+                out.writeByte(execution.success() ? FLAG_SUCCESS : 0);
+            }
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private int stringIndex(String value) throws IOException {
+        Integer index = strings.get(value);
+        if (index != null) {
+            return index;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(TAG_STRING);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+        strings.put(value, strings.size());
+        return strings.size() - 1;
+    }
+
+    // Events reach the writer from several threads, so an offset can be slightly behind the last one
+    private void writeOffset(long offsetMs) throws IOException {
+        writeVarLong(zigzag(offsetMs - lastOffsetMs));
+        lastOffsetMs = offsetMs;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
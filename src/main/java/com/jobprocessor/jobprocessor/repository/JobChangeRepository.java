@@ -0,0 +1,44 @@
+package com.jobprocessor.jobprocessor.repository;
+
+import com.jobprocessor.jobprocessor.model.JobChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobChangeRepository extends JpaRepository<JobChange, Long> {
+
+    // Every tenant's rows, so the poller can tell a gap in the sequence from another tenant's change
+    @Query("SELECT c FROM JobChange c WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<JobChange> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM JobChange c")
+    long findLatestId();
+
+    @Query("SELECT COALESCE(MIN(c.id), 0) FROM JobChange c")
+    long findOldestId();
+
+    // Bulk transitions stamp updatedAt with their own time, which picks out the rows they changed
+    @Modifying
+    @Query("INSERT INTO JobChange (jobId, tenantId, jobType, status, retryCount, errorMessage, occurredAt) " +
+            "SELECT j.id, j.tenantId, j.jobType, j.status, j.retryCount, j.errorMessage, j.updatedAt FROM Job j " +
+            "WHERE j.id IN :jobIds AND j.updatedAt = :now")
+    int recordJobs(@Param("jobIds") List<UUID> jobIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("INSERT INTO JobChange (jobId, tenantId, jobType, status, retryCount, errorMessage, occurredAt) " +
+            "SELECT j.id, j.tenantId, j.jobType, j.status, j.retryCount, j.errorMessage, j.updatedAt FROM Job j " +
+            "WHERE j.leaderJobId = :leaderJobId AND j.updatedAt = :now")
+    int recordFollowers(@Param("leaderJobId") UUID leaderJobId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM JobChange c WHERE c.occurredAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
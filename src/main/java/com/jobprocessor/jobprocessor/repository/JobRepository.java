@@ -2,6 +2,7 @@ package com.jobprocessor.jobprocessor.repository;
 
 import com.jobprocessor.jobprocessor.model.Job;
 import com.jobprocessor.jobprocessor.model.JobStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,14 +28,96 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
     @Query("SELECT COUNT(j) FROM Job j WHERE j.status = :status")
     long countByStatus(@Param("status") JobStatus status);
 
-    @Query("SELECT j FROM Job j WHERE j.status = :status AND (j.leasedAt IS NULL OR j.leasedAt < :expiryTime) ORDER BY j.createdAt ASC")
-    List<Job> findAvailableJobsForProcessing(@Param("status") JobStatus status, @Param("expiryTime") LocalDateTime expiryTime);
-
     @Modifying
     @Query("UPDATE Job j SET j.status = :newStatus, j.leasedAt = :leasedAt WHERE j.id = :id AND j.status = :oldStatus")
     int leaseJob(@Param("id") UUID id, @Param("oldStatus") JobStatus oldStatus, @Param("newStatus") JobStatus newStatus, @Param("leasedAt") LocalDateTime leasedAt);
 
     List<Job> findByStatus(JobStatus status);
-}
 
+    // Followers never sat in the ready queue, so they do not count toward its drain rate
+    @Query("SELECT COUNT(j) FROM Job j WHERE j.completedAt >= :from AND j.completedAt < :to " +
+            "AND j.leaderJobId IS NULL")
+    long countFinishedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT j FROM Job j WHERE j.queue = :queue AND j.status = :status AND j.leasedAt < :leasedBefore " +
+            "ORDER BY j.leasedAt ASC")
+    List<Job> findLeasedBefore(@Param("queue") String queue, @Param("status") JobStatus status,
+                               @Param("leasedBefore") LocalDateTime leasedBefore, Pageable pageable);
+
+    // Only matches the lease that was judged expired, so one node reclaims it
+    @Modifying
+    @Query("UPDATE Job j SET j.leasedAt = :now WHERE j.id = :id AND j.status = :status AND j.leasedAt = :leasedAt")
+    int claimExpiredLease(@Param("id") UUID id, @Param("status") JobStatus status,
+                          @Param("leasedAt") LocalDateTime leasedAt, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.status, COUNT(j) FROM Job j GROUP BY j.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT j.id FROM Job j WHERE j.status = :status " +
+            "AND (:afterId IS NULL OR j.id > :afterId) " +
+            "AND (:tenantId IS NULL OR j.tenantId = :tenantId) " +
+            "AND (:errorPattern IS NULL OR j.errorMessage LIKE :errorPattern) " +
+            "AND (:from IS NULL OR j.completedAt >= :from) " +
+            "AND (:to IS NULL OR j.completedAt < :to) " +
+            "ORDER BY j.id ASC")
+    List<UUID> findIdsForRedrive(@Param("status") JobStatus status,
+                                 @Param("afterId") UUID afterId,
+                                 @Param("tenantId") String tenantId,
+                                 @Param("errorPattern") String errorPattern,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :newStatus, j.retryCount = 0, j.leasedAt = NULL, j.startedAt = NULL, " +
+            "j.completedAt = NULL, j.updatedAt = :now WHERE j.id IN :ids AND j.status = :oldStatus")
+    int redriveJobs(@Param("ids") List<UUID> ids, @Param("oldStatus") JobStatus oldStatus,
+                    @Param("newStatus") JobStatus newStatus, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :newStatus, j.leasedAt = NULL, j.startedAt = NULL, j.updatedAt = :now " +
+            "WHERE j.id IN :ids AND j.status = :oldStatus")
+    int releaseJobs(@Param("ids") List<UUID> ids, @Param("oldStatus") JobStatus oldStatus,
+                    @Param("newStatus") JobStatus newStatus, @Param("now") LocalDateTime now);
 
+    @Query("SELECT j.id FROM Job j WHERE j.resultStoreId = :storeId AND j.resultSegment = :segment")
+    List<UUID> findIdsByResultSegment(@Param("storeId") String storeId, @Param("segment") long segment);
+
+    @Query("SELECT DISTINCT j.tenantId FROM Job j WHERE j.partitionId >= :partitionCount")
+    List<String> findTenantsOutsidePartitions(@Param("partitionCount") int partitionCount);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.partitionId = :partitionId WHERE j.tenantId = :tenantId " +
+            "AND j.partitionId >= :partitionCount")
+    int repartition(@Param("tenantId") String tenantId, @Param("partitionCount") int partitionCount,
+                    @Param("partitionId") int partitionId);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.resultStoreId = NULL, j.resultSegment = NULL, j.resultOffset = NULL, " +
+            "j.resultLength = NULL, j.updatedAt = :now WHERE j.resultStoreId = :storeId AND j.resultSegment = :segment")
+    int clearResultSegment(@Param("storeId") String storeId, @Param("segment") long segment,
+                           @Param("now") LocalDateTime now);
+
+    @Query("SELECT j FROM Job j WHERE j.tenantId = :tenantId AND j.payloadHash = :payloadHash " +
+            "AND j.leaderJobId IS NULL AND j.status IN :statuses ORDER BY j.createdAt ASC")
+    List<Job> findDedupLeaders(@Param("tenantId") String tenantId, @Param("payloadHash") String payloadHash,
+                               @Param("statuses") Collection<JobStatus> statuses, Pageable pageable);
+
+    // Followers share the leader's stored result, so the segment sweep releases them together
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :newStatus, j.errorMessage = :errorMessage, j.completedAt = :now, " +
+            "j.resultStoreId = :resultStoreId, j.resultSegment = :resultSegment, j.resultOffset = :resultOffset, " +
+            "j.resultLength = :resultLength, j.updatedAt = :now WHERE j.leaderJobId = :leaderJobId " +
+            "AND j.status = :oldStatus")
+    int resolveFollowers(@Param("leaderJobId") UUID leaderJobId, @Param("oldStatus") JobStatus oldStatus,
+                         @Param("newStatus") JobStatus newStatus, @Param("errorMessage") String errorMessage,
+                         @Param("resultStoreId") String resultStoreId, @Param("resultSegment") Long resultSegment,
+                         @Param("resultOffset") Long resultOffset, @Param("resultLength") Integer resultLength,
+                         @Param("now") LocalDateTime now);
+
+    @Query("SELECT l FROM Job l WHERE l.status IN :terminalStatuses AND EXISTS " +
+            "(SELECT f.id FROM Job f WHERE f.leaderJobId = l.id AND f.status = :followerStatus)")
+    List<Job> findTerminalLeadersWithFollowers(@Param("terminalStatuses") Collection<JobStatus> terminalStatuses,
+                                               @Param("followerStatus") JobStatus followerStatus,
+                                               Pageable pageable);
+}
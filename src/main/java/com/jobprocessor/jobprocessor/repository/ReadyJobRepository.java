@@ -0,0 +1,74 @@
+package com.jobprocessor.jobprocessor.repository;
+
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.model.ReadyJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReadyJobRepository extends JpaRepository<ReadyJob, UUID> {
+
+    @Query("SELECT r FROM ReadyJob r WHERE r.queue = :queue AND r.partitionId = :partitionId " +
+            "AND r.dueAt <= :now ORDER BY r.priority DESC, r.dueAt ASC")
+    List<ReadyJob> findLeaseCandidates(@Param("queue") String queue, @Param("partitionId") int partitionId,
+                                       @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Builds the same key as CircuitBreakerService.key; ready rows backfilled from old jobs may lack a type
+    @Query("SELECT r FROM ReadyJob r WHERE r.queue = :queue AND r.partitionId = :partitionId " +
+            "AND r.dueAt <= :now AND CONCAT(COALESCE(r.jobType, 'default'), '|', r.tenantId) NOT IN :blockedKeys " +
+            "ORDER BY r.priority DESC, r.dueAt ASC")
+    List<ReadyJob> findLeaseCandidatesExcluding(@Param("queue") String queue, @Param("partitionId") int partitionId,
+                                                @Param("now") LocalDateTime now,
+                                                @Param("blockedKeys") Collection<String> blockedKeys,
+                                                Pageable pageable);
+
+    @Query("SELECT r FROM ReadyJob r WHERE r.queue = :queue AND r.partitionId = :partitionId " +
+            "AND r.tenantId = :tenantId AND r.jobType = :jobType AND r.dueAt <= :now " +
+            "ORDER BY r.priority DESC, r.dueAt ASC")
+    List<ReadyJob> findBatchCandidates(@Param("queue") String queue, @Param("partitionId") int partitionId,
+                                       @Param("tenantId") String tenantId, @Param("jobType") String jobType,
+                                       @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM ReadyJob r WHERE r.queue = :queue")
+    long countByQueue(@Param("queue") String queue);
+
+    @Query("SELECT r.tenantId, COUNT(r) FROM ReadyJob r GROUP BY r.tenantId")
+    List<Object[]> countGroupedByTenant();
+
+    @Modifying
+    @Query("DELETE FROM ReadyJob r WHERE r.jobId = :jobId")
+    int claim(@Param("jobId") UUID jobId);
+
+    @Modifying
+    @Query("UPDATE ReadyJob r SET r.partitionId = :partitionId WHERE r.tenantId = :tenantId " +
+            "AND r.partitionId >= :partitionCount")
+    int repartition(@Param("tenantId") String tenantId, @Param("partitionCount") int partitionCount,
+                    @Param("partitionId") int partitionId);
+
+    // Uses the job's updatedAt as the due time; callers stamp it in the same transaction
+    @Modifying
+    @Query("INSERT INTO ReadyJob (jobId, queue, tenantId, jobType, partitionId, priority, dueAt) " +
+            "SELECT j.id, j.queue, j.tenantId, j.jobType, j.partitionId, j.priority, j.updatedAt FROM Job j " +
+            "WHERE j.id IN :jobIds AND j.status = :status AND j.leaderJobId IS NULL " +
+            "AND NOT EXISTS (SELECT r.jobId FROM ReadyJob r WHERE r.jobId = j.id)")
+    int enqueueJobs(@Param("jobIds") List<UUID> jobIds, @Param("status") JobStatus status);
+
+    // Runs in a transaction of its own, so a caller can survive a duplicate from a concurrent backfill
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO ReadyJob (jobId, queue, tenantId, jobType, partitionId, priority, dueAt) " +
+            "SELECT j.id, j.queue, j.tenantId, j.jobType, j.partitionId, j.priority, j.createdAt FROM Job j " +
+            "WHERE j.status = :status AND j.leaderJobId IS NULL " +
+            "AND NOT EXISTS (SELECT r.jobId FROM ReadyJob r WHERE r.jobId = j.id)")
+    int backfill(@Param("status") JobStatus status);
+}
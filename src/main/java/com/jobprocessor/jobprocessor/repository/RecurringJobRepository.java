@@ -0,0 +1,13 @@
+package com.jobprocessor.jobprocessor.repository;
+
+import com.jobprocessor.jobprocessor.model.RecurringJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecurringJobRepository extends JpaRepository<RecurringJob, String> {
+
+    List<RecurringJob> findByEnabledTrue();
+}
@@ -0,0 +1,89 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives a worker's poll cadence and concurrency limit from what it observes.
+ * Polling backs off exponentially while leases come back empty and snaps back to the
+ * base interval as soon as one succeeds. The concurrency limit follows AIMD: it grows
+ * by one after a healthy window in which the limit was actually reached, and shrinks
+ * multiplicatively when handler latency or error rate exceeds the configured targets.
+ */
+@Slf4j
+public class AdaptiveConcurrencyController {
+
+    private final JobProcessorProperties.Worker config;
+
+    private volatile long pollDelayMs;
+    private volatile int concurrencyLimit;
+
+    private int windowSamples;
+    private int windowFailures;
+    private long windowLatencyMs;
+    private volatile boolean saturated;
+
+    public AdaptiveConcurrencyController(JobProcessorProperties.Worker config) {
+        this.config = config;
+        this.pollDelayMs = config.getPollIntervalMs();
+        this.concurrencyLimit = clamp(config.getInitialConcurrency());
+    }
+
+    public long onLeaseAttempt(boolean leased) {
+        if (leased) {
+            pollDelayMs = config.getPollIntervalMs();
+            return 0;
+        }
+        long delay = pollDelayMs;
+        pollDelayMs = Math.min(config.getMaxPollIntervalMs(),
+                Math.max(config.getPollIntervalMs(), (long) (delay * config.getPollBackoffMultiplier())));
+        return delay;
+    }
+
+    public void markSaturated() {
+        saturated = true;
+    }
+
+    public synchronized void recordExecution(long latencyMs, boolean success) {
+        windowSamples++;
+        windowLatencyMs += latencyMs;
+        if (!success) {
+            windowFailures++;
+        }
+        if (windowSamples < config.getAdjustmentWindow()) {
+            return;
+        }
+
+        double errorRate = (double) windowFailures / windowSamples;
+        long averageLatencyMs = windowLatencyMs / windowSamples;
+        int previous = concurrencyLimit;
+
+        if (errorRate > config.getMaxErrorRate() || averageLatencyMs > config.getTargetLatencyMs()) {
+            concurrencyLimit = clamp((int) Math.floor(previous * config.getConcurrencyDecreaseFactor()));
+        } else if (saturated) {
+            concurrencyLimit = clamp(previous + 1);
+        }
+
+        if (concurrencyLimit != previous) {
+            log.info("Worker concurrency {} -> {} (avg latency {}ms, error rate {})",
+                    previous, concurrencyLimit, averageLatencyMs, String.format("%.2f", errorRate));
+        }
+
+        windowSamples = 0;
+        windowFailures = 0;
+        windowLatencyMs = 0;
+        saturated = false;
+    }
+
+    public long getPollDelayMs() {
+        return pollDelayMs;
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private int clamp(int limit) {
+        return Math.max(config.getMinConcurrency(), Math.min(config.getMaxConcurrency(), limit));
+    }
+}
@@ -0,0 +1,142 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import com.jobprocessor.jobprocessor.repository.ReadyJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sheds submissions when the pending backlog is deep. Depth is tracked in memory, adjusted
+ * as this node admits and leases jobs, and periodically reset from the ready queue so work
+ * admitted or leased by other nodes is accounted for. The drain rate is an EWMA of jobs the
+ * whole cluster finished between reconciles, matching the cluster-wide depth, and sets the
+ * Retry-After handed to rejected callers.
+ */
+@Service
+@Slf4j
+public class AdmissionControlService {
+
+    private static final double DRAIN_RATE_ALPHA = 0.3;
+
+    private final ReadyJobRepository readyJobRepository;
+    private final JobRepository jobRepository;
+    private final JobProcessorProperties.LoadShedding config;
+    private final Clock clock;
+
+    private final AtomicLong globalDepth = new AtomicLong();
+    private final Map<String, AtomicLong> tenantDepth = new ConcurrentHashMap<>();
+    private final LongAdder shedJobs = new LongAdder();
+
+    private volatile double drainRatePerSecond;
+    private LocalDateTime lastReconcileAt;
+
+    public AdmissionControlService(ReadyJobRepository readyJobRepository, JobRepository jobRepository,
+                                   JobProcessorProperties properties, Clock clock) {
+        this.readyJobRepository = readyJobRepository;
+        this.jobRepository = jobRepository;
+        this.config = properties.getLoadShedding();
+        this.clock = clock;
+        this.lastReconcileAt = LocalDateTime.now(clock);
+    }
+
+    /**
+     * Throws if the backlog is past a watermark: the soft watermark sheds jobs below
+     * {@code shedPriorityBelow}, the hard watermarks shed everything.
+     */
+    public void checkAdmission(String tenantId, int priority) {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        long global = globalDepth.get();
+        if (global >= config.getGlobalHardWatermark()) {
+            throw shed("Job backlog is full", global - config.getGlobalSoftWatermark(), tenantId);
+        }
+        if (global >= config.getGlobalSoftWatermark() && priority < config.getShedPriorityBelow()) {
+            throw shed("Job backlog is above its soft limit, shedding low-priority jobs",
+                    global - config.getGlobalSoftWatermark(), tenantId);
+        }
+
+        AtomicLong tenant = tenantDepth.get(tenantId);
+        long tenantPending = tenant != null ? tenant.get() : 0;
+        if (tenantPending >= config.getTenantHardWatermark()) {
+            throw shed("Job backlog for tenant " + tenantId + " is full",
+                    tenantPending - config.getTenantHardWatermark(), tenantId);
+        }
+    }
+
+    public void onAdmitted(String tenantId) {
+        globalDepth.incrementAndGet();
+        tenantDepth.computeIfAbsent(tenantId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void onLeased(String tenantId) {
+        globalDepth.decrementAndGet();
+        AtomicLong tenant = tenantDepth.get(tenantId);
+        if (tenant != null) {
+            tenant.decrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.loadShedding.reconcileIntervalMs}")
+    public void reconcile() {
+        Map<String, Long> counts = new HashMap<>();
+        long total = 0;
+        for (Object[] row : readyJobRepository.countGroupedByTenant()) {
+            long count = (Long) row[1];
+            counts.put((String) row[0], count);
+            total += count;
+        }
+
+        globalDepth.set(total);
+        counts.forEach((tenantId, count) -> tenantDepth.computeIfAbsent(tenantId, k -> new AtomicLong()).set(count));
+        tenantDepth.keySet().retainAll(counts.keySet());
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        double elapsedSeconds = Duration.between(lastReconcileAt, now).toMillis() / 1000.0;
+        if (elapsedSeconds > 0) {
+            double rate = jobRepository.countFinishedBetween(lastReconcileAt, now) / elapsedSeconds;
+            lastReconcileAt = now;
+            drainRatePerSecond = drainRatePerSecond == 0
+                    ? rate
+                    : DRAIN_RATE_ALPHA * rate + (1 - DRAIN_RATE_ALPHA) * drainRatePerSecond;
+        }
+    }
+
+    long retryAfterSeconds(long excess) {
+        double rate = drainRatePerSecond;
+        long seconds = rate > 0 ? (long) Math.ceil(Math.max(1, excess) / rate) : config.getMaxRetryAfterSeconds();
+        return Math.max(1, Math.min(seconds, config.getMaxRetryAfterSeconds()));
+    }
+
+    private JobService.OverloadedException shed(String message, long excess, String tenantId) {
+        shedJobs.increment();
+        long retryAfter = retryAfterSeconds(excess);
+        log.warn("[traceId:{}] Shedding job for tenant {}: {} (retry after {}s)",
+                TraceContext.current(), tenantId, message, retryAfter);
+        return new JobService.OverloadedException(message, retryAfter);
+    }
+
+    public long getPendingDepth() {
+        return globalDepth.get();
+    }
+
+    public double getDrainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+
+    public long getShedJobs() {
+        return shedJobs.sum();
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.dto.JobOutcome;
+import com.jobprocessor.jobprocessor.model.Job;
+
+import java.util.List;
+
+/**
+ * A handler that is cheaper to call once for many jobs than once per job. The worker leases
+ * PENDING jobs of the same tenant and type together, waiting up to {@link #maxLingerMs()}
+ * for the batch to fill, and hands them over in one call.
+ * <p>
+ * A batch runs on one worker thread under the deadlines of all its jobs; the first to pass
+ * interrupts the call.
+ */
+public interface BatchJobHandler extends JobHandler {
+
+    int maxBatchSize();
+
+    long maxLingerMs();
+
+    /**
+     * Returns one outcome per job, in the order the jobs were given.
+     */
+    List<JobOutcome> handleBatch(List<Job> jobs) throws Exception;
+
+    @Override
+    default JobOutcome handle(Job job) throws Exception {
+        return handleBatch(List.of(job)).get(0);
+    }
+}
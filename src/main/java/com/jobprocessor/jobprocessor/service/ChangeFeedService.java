@@ -0,0 +1,304 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobChangeResponse;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.JobChange;
+import com.jobprocessor.jobprocessor.repository.JobChangeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Durable, ordered feed of job state transitions. Every transition writes a
+ * {@link JobChange} row in the transaction that makes it, and subscribers stream the rows
+ * over Server-Sent Events from the sequence number they last saw.
+ * <p>
+ * Sequence numbers are assigned at insert but become visible at commit, so a stream stops
+ * at the first missing number and waits for it. A number still missing after the gap
+ * timeout, as measured by the subscriber, is taken to be a rollback and skipped; a
+ * transaction that commits even later than that is not delivered to streams past it.
+ * <p>
+ * Only numbers above the latest sequence seen at startup are waited for. Anything up to it
+ * was settled before the embedded database restarted with this node, and the first number
+ * handed out after a restart may jump ahead of it.
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    private final JobChangeRepository jobChangeRepository;
+    private final JobProcessorProperties.ChangeFeed config;
+    private final Clock clock;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final LongAdder recordedChanges = new LongAdder();
+    private final LongAdder deliveredChanges = new LongAdder();
+    private final LongAdder skippedGaps = new LongAdder();
+
+    private ScheduledExecutorService executor;
+    private volatile long settledSequence;
+
+    public ChangeFeedService(JobChangeRepository jobChangeRepository, JobProcessorProperties properties, Clock clock) {
+        this.jobChangeRepository = jobChangeRepository;
+        this.config = properties.getChangeFeed();
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "job-change-feed-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reads the latest sequence before the workers start writing changes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void readSettledSequence() {
+        settledSequence = jobChangeRepository.findLatestId();
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Subscription subscription : subscriptions) {
+            subscription.emitter.complete();
+            subscription.close();
+        }
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Job job) {
+        if (!isEnabled()) {
+            return;
+        }
+        jobChangeRepository.save(JobChange.of(job));
+        recordedChanges.increment();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<Job> jobs) {
+        if (!isEnabled() || jobs.isEmpty()) {
+            return;
+        }
+        jobChangeRepository.saveAll(jobs.stream().map(JobChange::of).toList());
+        recordedChanges.add(jobs.size());
+    }
+
+    /**
+     * Records the jobs a bulk update stamped with {@code now}; ids it skipped are ignored.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordJobs(List<UUID> jobIds, LocalDateTime now) {
+        if (!isEnabled() || jobIds.isEmpty()) {
+            return;
+        }
+        recordedChanges.add(jobChangeRepository.recordJobs(jobIds, now));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordFollowers(UUID leaderJobId, LocalDateTime now) {
+        if (!isEnabled()) {
+            return;
+        }
+        recordedChanges.add(jobChangeRepository.recordFollowers(leaderJobId, now));
+    }
+
+    /**
+     * Streams changes after {@code afterSequence}, or from the current end of the feed when
+     * it is null, until the client disconnects or the emitter times out. A position below the
+     * oldest retained change, such as 0 or one already purged, starts from that change.
+     */
+    public SseEmitter subscribe(Long afterSequence, String tenantId) {
+        if (!isEnabled()) {
+            throw new ChangeFeedDisabledException("The change feed is disabled");
+        }
+        long after = afterSequence != null
+                ? Math.max(afterSequence, jobChangeRepository.findOldestId() - 1)
+                : jobChangeRepository.findLatestId();
+        SseEmitter emitter = new SseEmitter(config.getEmitterTimeoutMs());
+        Subscription subscription = new Subscription(emitter, tenantId, after, System.nanoTime());
+        subscriptions.add(subscription);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        subscription.poller = executor.scheduleWithFixedDelay(() -> poll(subscription),
+                0, config.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+        if (subscription.closed) {
+            subscription.poller.cancel(false);
+        }
+        log.info("Change feed subscriber joined after sequence {} (tenant: {})", after, tenantId);
+        return emitter;
+    }
+
+    private void poll(Subscription subscription) {
+        if (subscription.closed) {
+            return;
+        }
+        try {
+            int sent = 0;
+            boolean blocked = false;
+            List<JobChange> page;
+            do {
+                page = jobChangeRepository.findAfter(subscription.lastSequence,
+                        PageRequest.of(0, config.getBatchSize()));
+                for (JobChange change : page) {
+                    if (change.getId() != subscription.lastSequence + 1
+                            && subscription.lastSequence > settledSequence && !gapExpired(subscription)) {
+                        blocked = true;
+                        break;
+                    }
+                    if (subscription.tenantId == null || subscription.tenantId.equals(change.getTenantId())) {
+                        subscription.emitter.send(SseEmitter.event()
+                                .id(String.valueOf(change.getId()))
+                                .name("job")
+                                .data(toResponse(change)));
+                        sent++;
+                    }
+                    subscription.lastSequence = change.getId();
+                }
+            } while (!blocked && page.size() == config.getBatchSize() && !subscription.closed);
+            deliveredChanges.add(sent);
+
+            long nowNanos = System.nanoTime();
+            if (sent > 0) {
+                subscription.lastSentNanos = nowNanos;
+            } else if (nowNanos - subscription.lastSentNanos
+                    >= TimeUnit.MILLISECONDS.toNanos(config.getHeartbeatIntervalMs())) {
+                // Keeps proxies from closing an idle stream
+                subscription.emitter.send(SseEmitter.event().comment("keepalive"));
+                subscription.lastSentNanos = nowNanos;
+            }
+        } catch (Exception e) {
+            log.info("Change feed subscriber dropped at sequence {}: {}", subscription.lastSequence, e.getMessage());
+            subscription.emitter.completeWithError(e);
+            subscription.close();
+        }
+    }
+
+    /**
+     * Whether the numbers missing right after the subscriber's position have been missing for
+     * longer than the gap timeout. Timed on this node's monotonic clock from when the
+     * subscriber first ran into them, so neither commit delays nor clock skew shorten it.
+     */
+    private boolean gapExpired(Subscription subscription) {
+        long nowNanos = System.nanoTime();
+        if (subscription.gapAfterSequence != subscription.lastSequence) {
+            subscription.gapAfterSequence = subscription.lastSequence;
+            subscription.gapSinceNanos = nowNanos;
+        }
+        if (nowNanos - subscription.gapSinceNanos < TimeUnit.MILLISECONDS.toNanos(config.getGapTimeoutMs())) {
+            return false;
+        }
+        log.warn("Change feed skipping missing sequence numbers after {}", subscription.lastSequence);
+        skippedGaps.increment();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.changeFeed.purgeIntervalMs}")
+    @Transactional
+    public void purgeExpiredChanges() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(config.getRetentionHours());
+        int purged = jobChangeRepository.deleteOlderThan(cutoff);
+        if (purged > 0) {
+            log.info("Purged {} job changes older than {}", purged, cutoff);
+        }
+    }
+
+    public int getSubscribers() {
+        return subscriptions.size();
+    }
+
+    public long getRecordedChanges() {
+        return recordedChanges.sum();
+    }
+
+    public long getDeliveredChanges() {
+        return deliveredChanges.sum();
+    }
+
+    public long getSkippedGaps() {
+        return skippedGaps.sum();
+    }
+
+    private JobChangeResponse toResponse(JobChange change) {
+        return JobChangeResponse.builder()
+                .sequence(change.getId())
+                .jobId(change.getJobId())
+                .tenantId(change.getTenantId())
+                .type(change.getJobType())
+                .status(change.getStatus())
+                .retryCount(change.getRetryCount())
+                .errorMessage(change.getErrorMessage())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final String tenantId;
+        // Only touched by the poller, which never runs concurrently with itself
+        private long lastSequence;
+        private long lastSentNanos;
+        private long gapAfterSequence = -1;
+        private long gapSinceNanos;
+        private volatile ScheduledFuture<?> poller;
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, String tenantId, long lastSequence, long lastSentNanos) {
+            this.emitter = emitter;
+            this.tenantId = tenantId;
+            this.lastSequence = lastSequence;
+            this.lastSentNanos = lastSentNanos;
+        }
+
+        private void close() {
+            closed = true;
+            subscriptions.remove(this);
+            ScheduledFuture<?> scheduled = poller;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+
+    public static class ChangeFeedDisabledException extends RuntimeException {
+        public ChangeFeedDisabledException(String message) {
+            super(message);
+        }
+    }
+}
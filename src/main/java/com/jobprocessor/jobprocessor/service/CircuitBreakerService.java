@@ -0,0 +1,313 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.CircuitBreakerStatus;
+import com.jobprocessor.jobprocessor.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Failure-rate circuit breakers per job type and tenant, fed by acknowledged outcomes.
+ * A breaker opens once the failure rate over its most recent outcomes reaches the
+ * threshold, and leasing skips its jobs while it is open. After the open duration it lets
+ * a few probe jobs through: it closes when they all succeed and reopens on any failure.
+ * <p>
+ * Breakers are local to the node, so each node stops leasing on its own evidence.
+ */
+@Service
+@Slf4j
+public class CircuitBreakerService {
+
+    // Matches the key the lease query builds from ready-queue columns
+    private static final String KEY_SEPARATOR = "|";
+
+    private final JobProcessorProperties.CircuitBreaker config;
+    private final Clock clock;
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private final LongAdder openedBreakers = new LongAdder();
+    // Serializes rebuilds only; never held while taking a breaker's lock
+    private final Object rebuildLock = new Object();
+
+    // Rebuilt on every transition so the lease path reads it without locking
+    private volatile Set<String> blockedKeys = Set.of();
+    private volatile long nextTransitionAtMillis = Long.MAX_VALUE;
+
+    public CircuitBreakerService(JobProcessorProperties properties, Clock clock) {
+        this.config = properties.getCircuitBreaker();
+        this.clock = clock;
+    }
+
+    public static String key(String jobType, String tenantId) {
+        return (jobType != null ? jobType : Job.DEFAULT_TYPE) + KEY_SEPARATOR + tenantId;
+    }
+
+    /**
+     * Keys of the breakers that currently admit no jobs, for the lease query to exclude.
+     */
+    public Set<String> blockedKeys() {
+        refresh(clock.millis());
+        return blockedKeys;
+    }
+
+    /**
+     * Takes permission to lease one job. Always granted while the breaker is closed; a
+     * half-open breaker grants one permit per probe.
+     */
+    public boolean tryAcquire(String jobType, String tenantId) {
+        if (!config.isEnabled()) {
+            return true;
+        }
+        Breaker breaker = breakers.get(key(jobType, tenantId));
+        if (breaker == null || breaker.state == State.CLOSED) {
+            return true;
+        }
+        refresh(clock.millis());
+        boolean exhausted;
+        synchronized (breaker) {
+            if (breaker.state == State.CLOSED) {
+                return true;
+            }
+            if (breaker.state == State.OPEN || breaker.probePermits == 0) {
+                return false;
+            }
+            exhausted = --breaker.probePermits == 0;
+        }
+        if (exhausted) {
+            rebuildBlockedKeys();
+        }
+        return true;
+    }
+
+    /**
+     * Returns a permit taken by {@link #tryAcquire} for a job that was not leased after all.
+     */
+    public void release(String jobType, String tenantId) {
+        Breaker breaker = breakers.get(key(jobType, tenantId));
+        if (breaker == null || breaker.state != State.HALF_OPEN) {
+            return;
+        }
+        synchronized (breaker) {
+            if (breaker.state != State.HALF_OPEN || breaker.probePermits >= config.getHalfOpenProbes()) {
+                return;
+            }
+            breaker.probePermits++;
+        }
+        rebuildBlockedKeys();
+    }
+
+    // Batches only form behind a closed breaker; a half-open one runs its probes alone
+    public boolean isClosed(String jobType, String tenantId) {
+        Breaker breaker = breakers.get(key(jobType, tenantId));
+        return !config.isEnabled() || breaker == null || breaker.state == State.CLOSED;
+    }
+
+    /**
+     * Counts one acknowledged outcome. Called once the acknowledging transaction commits.
+     */
+    public void recordOutcome(String jobType, String tenantId, boolean success) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        String key = key(jobType, tenantId);
+        Breaker breaker = breakers.get(key);
+        if (breaker == null) {
+            breaker = breakers.computeIfAbsent(key, k -> new Breaker(jobType, tenantId, config.getWindowSize()));
+        }
+        boolean transitioned = false;
+        synchronized (breaker) {
+            long now = clock.millis();
+            breaker.lastOutcomeMillis = now;
+            switch (breaker.state) {
+                case CLOSED -> {
+                    breaker.record(success);
+                    if (breaker.calls >= config.getMinimumCalls()
+                            && breaker.failureRate() >= config.getFailureRateThreshold()) {
+                        log.warn("Circuit breaker for {} jobs of tenant {} opened at failure rate {}",
+                                jobType, tenantId, String.format("%.2f", breaker.failureRate()));
+                        open(breaker, now);
+                        transitioned = true;
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (!success) {
+                        log.warn("Circuit breaker for {} jobs of tenant {} reopened after a failed probe",
+                                jobType, tenantId);
+                        open(breaker, now);
+                        transitioned = true;
+                    } else if (++breaker.probeSuccesses >= config.getHalfOpenProbes()) {
+                        log.info("Circuit breaker for {} jobs of tenant {} closed", jobType, tenantId);
+                        breaker.close();
+                        transitioned = true;
+                    }
+                }
+                // Jobs leased before the breaker opened; their outcomes are already priced in
+                case OPEN -> {
+                }
+            }
+        }
+        if (transitioned) {
+            rebuildBlockedKeys();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.circuitBreaker.idleEvictionMs}")
+    public void evictIdleBreakers() {
+        long cutoff = clock.millis() - config.getIdleEvictionMs();
+        breakers.values().removeIf(breaker -> breaker.state == State.CLOSED && breaker.lastOutcomeMillis < cutoff);
+    }
+
+    /**
+     * Breakers that are open or half-open, for the dashboard.
+     */
+    public List<CircuitBreakerStatus> getTrippedBreakers() {
+        return breakers.values().stream()
+                .filter(breaker -> breaker.state != State.CLOSED)
+                .sorted(Comparator.comparing((Breaker breaker) -> breaker.jobType)
+                        .thenComparing(breaker -> breaker.tenantId))
+                .map(this::toStatus)
+                .toList();
+    }
+
+    public long getOpenBreakers() {
+        return breakers.values().stream().filter(breaker -> breaker.state == State.OPEN).count();
+    }
+
+    public long getHalfOpenBreakers() {
+        return breakers.values().stream().filter(breaker -> breaker.state == State.HALF_OPEN).count();
+    }
+
+    public long getOpenedBreakers() {
+        return openedBreakers.sum();
+    }
+
+    // Callers hold the breaker's lock and rebuild the blocked keys after releasing it
+    private void open(Breaker breaker, long now) {
+        breaker.state = State.OPEN;
+        breaker.transitionAtMillis = now + config.getOpenDurationMs();
+        openedBreakers.increment();
+    }
+
+    /**
+     * Moves open breakers whose time is up to half-open, and re-arms half-open breakers
+     * whose probes never reported back, for example because the probing node shut down.
+     */
+    private void refresh(long now) {
+        if (now < nextTransitionAtMillis) {
+            return;
+        }
+        for (Breaker breaker : breakers.values()) {
+            synchronized (breaker) {
+                if (breaker.state == State.CLOSED || breaker.transitionAtMillis > now) {
+                    continue;
+                }
+                if (breaker.state == State.OPEN) {
+                    log.info("Circuit breaker for {} jobs of tenant {} half-open, probing",
+                            breaker.jobType, breaker.tenantId);
+                }
+                breaker.state = State.HALF_OPEN;
+                breaker.probePermits = config.getHalfOpenProbes();
+                breaker.probeSuccesses = 0;
+                breaker.transitionAtMillis = now + config.getOpenDurationMs();
+            }
+        }
+        rebuildBlockedKeys();
+    }
+
+    // Reads the volatile breaker fields; every transition rebuilds after it, so the last rebuild sees them all
+    private void rebuildBlockedKeys() {
+        synchronized (rebuildLock) {
+            Set<String> blocked = new HashSet<>();
+            long next = Long.MAX_VALUE;
+            for (Map.Entry<String, Breaker> entry : breakers.entrySet()) {
+                Breaker breaker = entry.getValue();
+                if (breaker.state == State.CLOSED) {
+                    continue;
+                }
+                if (breaker.state == State.OPEN || breaker.probePermits == 0) {
+                    blocked.add(entry.getKey());
+                }
+                next = Math.min(next, breaker.transitionAtMillis);
+            }
+            blockedKeys = Set.copyOf(blocked);
+            nextTransitionAtMillis = next;
+        }
+    }
+
+    private CircuitBreakerStatus toStatus(Breaker breaker) {
+        synchronized (breaker) {
+            return CircuitBreakerStatus.builder()
+                    .jobType(breaker.jobType)
+                    .tenantId(breaker.tenantId)
+                    .state(breaker.state)
+                    .failureRate(breaker.failureRate())
+                    .nextTransitionAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(breaker.transitionAtMillis),
+                            clock.getZone()))
+                    .build();
+        }
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // Guarded by its own monitor; the fields rebuilds and fast paths read without it are volatile
+    private static final class Breaker {
+        private final String jobType;
+        private final String tenantId;
+        private final boolean[] outcomes;
+        private int next;
+        private int calls;
+        private int failures;
+
+        private volatile State state = State.CLOSED;
+        private volatile long transitionAtMillis;
+        private volatile int probePermits;
+        private int probeSuccesses;
+        private volatile long lastOutcomeMillis;
+
+        private Breaker(String jobType, String tenantId, int windowSize) {
+            this.jobType = jobType != null ? jobType : Job.DEFAULT_TYPE;
+            this.tenantId = tenantId;
+            this.outcomes = new boolean[Math.max(1, windowSize)];
+        }
+
+        private void record(boolean success) {
+            if (calls == outcomes.length) {
+                if (!outcomes[next]) {
+                    failures--;
+                }
+            } else {
+                calls++;
+            }
+            outcomes[next] = success;
+            if (!success) {
+                failures++;
+            }
+            next = (next + 1) % outcomes.length;
+        }
+
+        private double failureRate() {
+            return calls == 0 ? 0.0 : (double) failures / calls;
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            next = 0;
+            calls = 0;
+            failures = 0;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.RedriveRequest;
+import com.jobprocessor.jobprocessor.dto.RedriveStatus;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays DLQ jobs back to PENDING. Redrives walk the DLQ by keyset cursor in batches and
+ * are paced to a target rate so a large replay trickles into the queue instead of landing
+ * on the workers at once. Redrives run one at a time, in submission order.
+ */
+@Service
+@Slf4j
+public class DlqRedriveService {
+
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    private final JobProcessorProperties.Redrive config;
+    private final Clock clock;
+    private final Map<UUID, RedriveTask> redrives = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dlq-redrive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DlqRedriveService(JobRepository jobRepository, JobService jobService, JobProcessorProperties properties,
+                             Clock clock) {
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.config = properties.getRedrive();
+        this.clock = clock;
+    }
+
+    @PreDestroy
+    public void stop() {
+        redrives.values().forEach(RedriveTask::cancel);
+        executor.shutdown();
+    }
+
+    public RedriveStatus startRedrive(RedriveRequest request) {
+        int rate = request.getRatePerSecond() != null
+                ? Math.min(request.getRatePerSecond(), config.getMaxRatePerSecond())
+                : config.getDefaultRatePerSecond();
+
+        // Finished redrives stay inspectable for a day
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minusDays(1);
+        redrives.values().removeIf(t -> t.finishedAt != null && t.finishedAt.isBefore(cutoff));
+
+        RedriveTask task = new RedriveTask(UUID.randomUUID(), request, rate, now);
+        redrives.put(task.id, task);
+        executor.execute(() -> run(task));
+
+        log.info("Redrive {} queued (tenant: {}, pattern: {}, rate: {}/s)",
+                task.id, request.getTenantId(), request.getErrorMessagePattern(), rate);
+        return task.toStatus();
+    }
+
+    public RedriveStatus getRedrive(UUID redriveId) {
+        return findTask(redriveId).toStatus();
+    }
+
+    public List<RedriveStatus> getRedrives() {
+        return redrives.values().stream()
+                .map(RedriveTask::toStatus)
+                .sorted(Comparator.comparing(RedriveStatus::getStartedAt).reversed())
+                .toList();
+    }
+
+    public RedriveStatus cancelRedrive(UUID redriveId) {
+        RedriveTask task = findTask(redriveId);
+        task.cancel();
+        return task.toStatus();
+    }
+
+    private RedriveTask findTask(UUID redriveId) {
+        RedriveTask task = redrives.get(redriveId);
+        if (task == null) {
+            throw new RedriveNotFoundException("Redrive not found: " + redriveId);
+        }
+        return task;
+    }
+
+    private void run(RedriveTask task) {
+        if (task.cancelled.getCount() == 0) {
+            task.finish(RedriveStatus.State.CANCELLED, null, LocalDateTime.now(clock));
+            return;
+        }
+        task.state = RedriveStatus.State.RUNNING;
+
+        RedriveRequest filter = task.request;
+        PageRequest page = PageRequest.of(0, Math.min(config.getBatchSize(), task.ratePerSecond));
+        long startNanos = System.nanoTime();
+        UUID cursor = null;
+
+        try {
+            while (task.cancelled.getCount() > 0) {
+                List<UUID> ids = jobRepository.findIdsForRedrive(JobStatus.DLQ, cursor,
+                        filter.getTenantId(), filter.getErrorMessagePattern(),
+                        filter.getDlqAfter(), filter.getDlqBefore(), page);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                cursor = ids.get(ids.size() - 1);
+
+                int redriven = jobService.redriveJobs(ids);
+                task.scanned.addAndGet(ids.size());
+                long total = task.redriven.addAndGet(redriven);
+
+                // Hold back until the running total is back on the target rate
+                long dueNanos = startNanos + TimeUnit.SECONDS.toNanos(total) / task.ratePerSecond;
+                long waitNanos = dueNanos - System.nanoTime();
+                if (waitNanos > 0 && task.cancelled.await(waitNanos, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            }
+
+            boolean cancelled = task.cancelled.getCount() == 0;
+            task.finish(cancelled ? RedriveStatus.State.CANCELLED : RedriveStatus.State.COMPLETED, null,
+                    LocalDateTime.now(clock));
+            log.info("Redrive {} {}: {} jobs redriven of {} scanned",
+                    task.id, task.state, task.redriven.get(), task.scanned.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.finish(RedriveStatus.State.CANCELLED, null, LocalDateTime.now(clock));
+        } catch (Exception e) {
+            log.error("Redrive {} failed after {} jobs: {}", task.id, task.redriven.get(), e.getMessage(), e);
+            task.finish(RedriveStatus.State.FAILED, e.getMessage(), LocalDateTime.now(clock));
+        }
+    }
+
+    private static final class RedriveTask {
+        private final UUID id;
+        private final RedriveRequest request;
+        private final int ratePerSecond;
+        private final LocalDateTime startedAt;
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong redriven = new AtomicLong();
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        private volatile RedriveStatus.State state = RedriveStatus.State.QUEUED;
+        private volatile String failureReason;
+        private volatile LocalDateTime finishedAt;
+
+        private RedriveTask(UUID id, RedriveRequest request, int ratePerSecond, LocalDateTime startedAt) {
+            this.id = id;
+            this.request = request;
+            this.ratePerSecond = ratePerSecond;
+            this.startedAt = startedAt;
+        }
+
+        private void cancel() {
+            cancelled.countDown();
+        }
+
+        private void finish(RedriveStatus.State finalState, String reason, LocalDateTime now) {
+            this.failureReason = reason;
+            this.finishedAt = now;
+            this.state = finalState;
+        }
+
+        private RedriveStatus toStatus() {
+            return RedriveStatus.builder()
+                    .id(id)
+                    .state(state)
+                    .tenantId(request.getTenantId())
+                    .errorMessagePattern(request.getErrorMessagePattern())
+                    .dlqAfter(request.getDlqAfter())
+                    .dlqBefore(request.getDlqBefore())
+                    .ratePerSecond(ratePerSecond)
+                    .scannedJobs(scanned.get())
+                    .redrivenJobs(redriven.get())
+                    .failureReason(failureReason)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+
+    public static class RedriveNotFoundException extends RuntimeException {
+        public RedriveNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobRequest;
+import com.jobprocessor.jobprocessor.dto.JobResponse;
+import com.jobprocessor.jobprocessor.model.Job;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accepts submissions into a bounded in-memory buffer and persists them from a single
+ * writer thread, one transaction per batch. A full buffer is reported to the caller
+ * instead of blocking the request thread.
+ */
+@Service
+@Slf4j
+public class JobAdmissionPipeline {
+
+    private final JobService jobService;
+    private final RateLimitingService rateLimitingService;
+    private final AdmissionControlService admissionControlService;
+    private final JobStatusCache jobStatusCache;
+    private final JobProcessorProperties.Admission config;
+    private final BlockingQueue<Job> buffer;
+
+    private final LongAdder acceptedJobs = new LongAdder();
+    private final LongAdder rejectedJobs = new LongAdder();
+    private final LongAdder persistedJobs = new LongAdder();
+    private final LongAdder writtenBatches = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public JobAdmissionPipeline(JobService jobService,
+                                RateLimitingService rateLimitingService,
+                                AdmissionControlService admissionControlService,
+                                JobStatusCache jobStatusCache,
+                                JobProcessorProperties properties) {
+        this.jobService = jobService;
+        this.rateLimitingService = rateLimitingService;
+        this.admissionControlService = admissionControlService;
+        this.jobStatusCache = jobStatusCache;
+        this.config = properties.getAdmission();
+        this.buffer = new ArrayBlockingQueue<>(config.getBufferCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isAsyncEnabled()) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "job-admission-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Async job admission enabled with buffer capacity {}", config.getBufferCapacity());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        // No interrupt: the writer may be inside a JDBC call, and it notices the flag within one poll
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Keyed submissions stay on the synchronous path: answering them requires an
+     * idempotency lookup against the database anyway.
+     */
+    public boolean supports(JobRequest request) {
+        return running && (request.getIdempotencyKey() == null || request.getIdempotencyKey().isBlank());
+    }
+
+    public JobResponse admit(JobRequest request, String tenantId) {
+        if (buffer.remainingCapacity() == 0) {
+            throw rejectFull(tenantId);
+        }
+
+        Job job = jobService.newJob(request, tenantId, TraceContext.newTraceId());
+        admissionControlService.checkAdmission(tenantId, job.getPriority());
+
+        if (!rateLimitingService.tryRecordSubmission(tenantId)) {
+            throw new JobService.RateLimitExceededException("Rate limit exceeded for tenant: " + tenantId,
+                    rateLimitingService.retryAfterSeconds(tenantId));
+        }
+
+        if (!buffer.offer(job)) {
+            throw rejectFull(tenantId);
+        }
+        acceptedJobs.increment();
+        admissionControlService.onAdmitted(tenantId);
+
+        // Lets pollers see the job before the writer has flushed it
+        JobResponse response = jobService.toJobResponse(job);
+        jobStatusCache.put(response);
+        return response;
+    }
+
+    public int getBufferDepth() {
+        return buffer.size();
+    }
+
+    public long getAcceptedJobs() {
+        return acceptedJobs.sum();
+    }
+
+    public long getRejectedJobs() {
+        return rejectedJobs.sum();
+    }
+
+    public long getPersistedJobs() {
+        return persistedJobs.sum();
+    }
+
+    public long getWrittenBatches() {
+        return writtenBatches.sum();
+    }
+
+    private JobService.OverloadedException rejectFull(String tenantId) {
+        rejectedJobs.increment();
+        log.warn("Admission buffer full, rejecting job for tenant: {}", tenantId);
+        return new JobService.OverloadedException("Job admission buffer is full", config.getRetryAfterSeconds());
+    }
+
+    private void runWriter() {
+        List<Job> batch = new ArrayList<>(config.getWriterBatchSize());
+        long backoffMs = config.getWriterLingerMs() + 1;
+
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    collectBatch(batch);
+                }
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                    backoffMs = config.getWriterLingerMs() + 1;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Keep the batch and retry; new submissions back up into the buffer meanwhile.
+                // Not only DataAccessException: an unreachable database surfaces as a transaction exception
+                log.warn("Failed to persist {} admitted jobs, retrying in {}ms: {}",
+                        batch.size(), backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMs = Math.min(backoffMs * 2, config.getWriterMaxBackoffMs());
+            }
+        }
+
+        buffer.drainTo(batch);
+        if (!batch.isEmpty()) {
+            flushOnShutdown(batch);
+        }
+    }
+
+    private void collectBatch(List<Job> batch) throws InterruptedException {
+        Job first = buffer.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        // Linger briefly so concurrent submitters share one commit
+        int batchSize = config.getWriterBatchSize();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getWriterLingerMs());
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Job next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeBatch(List<Job> batch) {
+        try {
+            jobService.persistAdmittedJobs(batch);
+            persistedJobs.add(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            // One bad row rolls back the whole batch; isolate it and keep the rest
+            log.warn("Batch of {} admitted jobs violated a constraint, writing individually", batch.size());
+            for (Job job : batch) {
+                try {
+                    jobService.persistAdmittedJobs(List.of(job));
+                    persistedJobs.increment();
+                } catch (DataIntegrityViolationException rowError) {
+                    log.error("Dropping admitted job {}: {}", job.getId(), rowError.getMessage());
+                    jobStatusCache.invalidate(job.getId());
+                }
+            }
+        }
+        writtenBatches.increment();
+    }
+
+    private void flushOnShutdown(List<Job> remaining) {
+        int batchSize = config.getWriterBatchSize();
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            List<Job> chunk = remaining.subList(from, Math.min(from + batchSize, remaining.size()));
+            try {
+                writeBatch(chunk);
+            } catch (RuntimeException e) {
+                log.error("Lost {} admitted jobs during shutdown: {}", remaining.size() - from, e.getMessage());
+                return;
+            }
+        }
+    }
+}
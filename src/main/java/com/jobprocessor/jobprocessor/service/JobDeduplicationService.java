@@ -0,0 +1,106 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight execution of identical payloads. A job whose (tenant, payload hash) matches
+ * a PENDING or RUNNING job attaches to it as a follower and finishes with the leader's
+ * outcome instead of executing again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobDeduplicationService {
+
+    private static final Set<JobStatus> IN_FLIGHT = EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING);
+    private static final Set<JobStatus> TERMINAL = EnumSet.of(JobStatus.COMPLETED, JobStatus.DLQ);
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final JobRepository jobRepository;
+    private final JobProcessorProperties properties;
+    private final ChangeFeedService changeFeedService;
+    private final Clock clock;
+    private final LongAdder savedExecutions = new LongAdder();
+
+    public boolean isEnabled() {
+        return properties.getDedup().isEnabled();
+    }
+
+    public String hash(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Optional<Job> findLeader(String tenantId, String payloadHash) {
+        return jobRepository.findDedupLeaders(tenantId, payloadHash, IN_FLIGHT, PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Completes the leader's followers with its terminal outcome and stored result. Must run in the
+     * transaction that moves the leader to a terminal state.
+     */
+    public int resolveFollowers(Job leader, LocalDateTime now) {
+        if (leader.getPayloadHash() == null || leader.getLeaderJobId() != null || !leader.getStatus().isTerminal()) {
+            return 0;
+        }
+        int resolved = jobRepository.resolveFollowers(leader.getId(), JobStatus.PENDING, leader.getStatus(),
+                leader.getErrorMessage(), leader.getResultStoreId(), leader.getResultSegment(),
+                leader.getResultOffset(), leader.getResultLength(), now);
+        if (resolved > 0) {
+            changeFeedService.recordFollowers(leader.getId(), now);
+            savedExecutions.add(resolved);
+            log.info("[traceId:{}] Resolved {} deduplicated followers of job {} as {}",
+                    leader.getTraceId(), resolved, leader.getId(), leader.getStatus());
+        }
+        return resolved;
+    }
+
+    /**
+     * A follower that attached while its leader was being acknowledged can miss the
+     * leader's resolve; this picks such followers up.
+     */
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.dedup.orphanSweepIntervalMs}")
+    @Transactional
+    public void sweepOrphanedFollowers() {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Job> leaders = jobRepository.findTerminalLeadersWithFollowers(TERMINAL, JobStatus.PENDING,
+                PageRequest.of(0, SWEEP_BATCH_SIZE));
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Job leader : leaders) {
+            resolveFollowers(leader, now);
+        }
+    }
+
+    public long getSavedExecutions() {
+        return savedExecutions.sum();
+    }
+}
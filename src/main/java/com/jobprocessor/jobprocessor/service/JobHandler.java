@@ -0,0 +1,15 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.dto.JobOutcome;
+import com.jobprocessor.jobprocessor.model.Job;
+
+/**
+ * Executes jobs of one type. Handlers run on worker threads and are interrupted when the
+ * job's deadline passes.
+ */
+public interface JobHandler {
+
+    String type();
+
+    JobOutcome handle(Job job) throws Exception;
+}
@@ -0,0 +1,31 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.model.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the handler for a job type. Types without a handler of their own run on the
+ * {@link Job#DEFAULT_TYPE} handler.
+ */
+@Component
+public class JobHandlerRegistry {
+
+    private final Map<String, JobHandler> handlers;
+
+    public JobHandlerRegistry(List<JobHandler> handlers) {
+        this.handlers = handlers.stream().collect(Collectors.toMap(JobHandler::type, Function.identity()));
+        if (!this.handlers.containsKey(Job.DEFAULT_TYPE)) {
+            throw new IllegalStateException("No handler registered for the default job type");
+        }
+    }
+
+    public JobHandler handlerFor(String jobType) {
+        JobHandler handler = jobType != null ? handlers.get(jobType) : null;
+        return handler != null ? handler : handlers.get(Job.DEFAULT_TYPE);
+    }
+}
@@ -1,20 +1,46 @@
 package com.jobprocessor.jobprocessor.service;
 
 import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.DashboardStats;
+import com.jobprocessor.jobprocessor.dto.JobAcknowledgement;
 import com.jobprocessor.jobprocessor.dto.JobRequest;
 import com.jobprocessor.jobprocessor.dto.JobResponse;
+import com.jobprocessor.jobprocessor.dto.TraceSpan;
+import com.jobprocessor.jobprocessor.jfr.JobAckEvent;
+import com.jobprocessor.jobprocessor.jfr.JobLeaseEvent;
+import com.jobprocessor.jobprocessor.jfr.JobSubmitEvent;
 import com.jobprocessor.jobprocessor.model.Job;
 import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.model.ReadyJob;
 import com.jobprocessor.jobprocessor.repository.JobRepository;
+import com.jobprocessor.jobprocessor.repository.ReadyJobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,21 +48,65 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JobService {
 
+    public static final int MAX_PARTITIONS = 1024;
+
     private final JobRepository jobRepository;
+    private final ReadyJobRepository readyJobRepository;
     private final RateLimitingService rateLimitingService;
     private final JobProcessorProperties properties;
+    private final JobStatusCache jobStatusCache;
+    private final SpanRecorder spanRecorder;
+    private final JobDeduplicationService jobDeduplicationService;
+    private final AdmissionControlService admissionControlService;
+    private final ChangeFeedService changeFeedService;
+    private final CircuitBreakerService circuitBreakerService;
+    private final WorkloadCaptureService workloadCaptureService;
+    private final Clock clock;
+
+    private final AtomicInteger partitionCursor = new AtomicInteger(ThreadLocalRandom.current().nextInt(1 << 16));
+    // Per queue, so one queue's empty partitions never hide another queue's backlog
+    private final Map<String, AtomicLongArray> emptyPartitionUntil = new ConcurrentHashMap<>();
+    private final LongAdder leaseAttempts = new LongAdder();
+    private final LongAdder leaseConflicts = new LongAdder();
+    private final LongAdder partitionScans = new LongAdder();
+    private final LongAdder reclaimedLeases = new LongAdder();
 
     @Transactional
     public JobResponse submitJob(JobRequest request, String tenantId) {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
+        return submit(request, tenantId, true);
+    }
 
-        try {
+    /**
+     * Submits a job materialized by the service itself, such as a recurring firing. Skips
+     * the tenant rate limit; the idempotency key still makes a repeated firing a no-op.
+     */
+    @Transactional
+    public JobResponse submitScheduledJob(JobRequest request, String tenantId) {
+        return submit(request, tenantId, false);
+    }
+
+    private JobResponse submit(JobRequest request, String tenantId, boolean rateLimited) {
+        long startMillis = clock.millis();
+        long startNanos = System.nanoTime();
+        String traceId = TraceContext.newTraceId();
+        JobSubmitEvent event = new JobSubmitEvent();
+        event.begin();
+        String outcome = "rejected";
+        UUID eventJobId = null;
+
+        try (TraceContext.Scope ignored = TraceContext.open(traceId)) {
             log.info("[traceId:{}] Submitting job for tenant: {}", traceId, tenantId);
 
+            // Shed before taking a rate-limit slot, so rejected submissions do not spend the tenant's quota
+            if (rateLimited) {
+                admissionControlService.checkAdmission(tenantId,
+                        request.getPriority() != null ? request.getPriority() : 0);
+            }
+
             // Check rate limits
-            if (!rateLimitingService.canSubmitJob(tenantId)) {
-                throw new RateLimitExceededException("Rate limit exceeded for tenant: " + tenantId);
+            if (rateLimited && !rateLimitingService.canSubmitJob(tenantId)) {
+                throw new RateLimitExceededException("Rate limit exceeded for tenant: " + tenantId,
+                        rateLimitingService.retryAfterSeconds(tenantId));
             }
 
             // Check idempotency
@@ -45,99 +115,543 @@ public class JobService {
                 if (existingJob.isPresent()) {
                     log.info("[traceId:{}] Job with idempotency key {} already exists: {}",
                             traceId, request.getIdempotencyKey(), existingJob.get().getId());
+                    eventJobId = existingJob.get().getId();
+                    outcome = "existing";
                     return toJobResponse(existingJob.get());
                 }
             }
 
             // Create new job
-            Job job = Job.builder()
-                    .tenantId(tenantId)
-                    .payload(request.getPayload())
-                    .idempotencyKey(request.getIdempotencyKey())
-                    .status(JobStatus.PENDING)
-                    .maxRetries(properties.getWorker().getMaxRetries())
-                    .retryCount(0)
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
+            Job job = newJob(request, tenantId, traceId, toLocalDateTime(startMillis));
+            if (jobDeduplicationService.isEnabled()) {
+                attachToLeader(job);
+            }
             job = jobRepository.save(job);
+            changeFeedService.record(job);
+            workloadCaptureService.recordSubmitAfterCommit(job);
+            if (job.getLeaderJobId() == null) {
+                readyJobRepository.save(ReadyJob.of(job, job.getCreatedAt()));
+                admissionControlService.onAdmitted(tenantId);
+            }
             log.info("[traceId:{}] Job created successfully: {}", traceId, job.getId());
+            eventJobId = job.getId();
+            outcome = job.getLeaderJobId() == null ? "created" : "deduplicated";
 
+            spanRecorder.recordSince(traceId, job.getId(), TraceSpan.Stage.SUBMIT, startMillis, startNanos);
             return toJobResponse(job);
         } finally {
-            MDC.clear();
+            // Event fields are only filled in when a recording wants the event
+            event.end();
+            if (event.shouldCommit()) {
+                event.jobId = eventJobId != null ? eventJobId.toString() : null;
+                event.tenantId = tenantId;
+                event.jobType = request.getType();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    Job newJob(JobRequest request, String tenantId, String traceId) {
+        return newJob(request, tenantId, traceId, LocalDateTime.now(clock));
+    }
+
+    private Job newJob(JobRequest request, String tenantId, String traceId, LocalDateTime now) {
+        String jobType = request.getType() != null && !request.getType().isBlank()
+                ? request.getType()
+                : Job.DEFAULT_TYPE;
+        String queue = resolveQueue(request.getQueue());
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .traceId(traceId)
+                .tenantId(tenantId)
+                .queue(queue)
+                .partitionId(partitionFor(tenantId))
+                .jobType(jobType)
+                .timeoutMs(request.getTimeoutMs())
+                .priority(request.getPriority() != null ? request.getPriority() : 0)
+                .payload(request.getPayload())
+                .idempotencyKey(request.getIdempotencyKey())
+                .status(JobStatus.PENDING)
+                .maxRetries(properties.workerFor(queue).getMaxRetries())
+                .retryCount(0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Returns the queue a request names, or the default queue when it names none.
+     */
+    public String resolveQueue(String queue) {
+        String name = queue != null && !queue.isBlank() ? queue : Job.DEFAULT_QUEUE;
+        if (properties.workerFor(name) == null) {
+            throw new UnknownQueueException("Unknown queue: " + name);
+        }
+        return name;
+    }
+
+    private void attachToLeader(Job job) {
+        String payloadHash = jobDeduplicationService.hash(job.getPayload());
+        job.setPayloadHash(payloadHash);
+        jobDeduplicationService.findLeader(job.getTenantId(), payloadHash).ifPresent(leader -> {
+            job.setLeaderJobId(leader.getId());
+            log.info("[traceId:{}] Identical payload already in flight, following job {}",
+                    job.getTraceId(), leader.getId());
+        });
+    }
+
+    @Transactional
+    public void persistAdmittedJobs(List<Job> jobs) {
+        jobRepository.saveAll(jobs);
+        changeFeedService.recordAll(jobs);
+        jobs.forEach(workloadCaptureService::recordSubmitAfterCommit);
+        readyJobRepository.saveAll(jobs.stream()
+                .filter(job -> job.getLeaderJobId() == null)
+                .map(job -> ReadyJob.of(job, job.getCreatedAt()))
+                .toList());
+    }
+
+    /**
+     * Moves jobs and ready-queue rows left on partitions at or above the configured count,
+     * which no worker scans, after the count was lowered. Runs before the backfill.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void repartitionStaleRows() {
+        int partitionCount = partitionCount();
+        List<String> tenantIds = jobRepository.findTenantsOutsidePartitions(partitionCount);
+        int moved = 0;
+        for (String tenantId : tenantIds) {
+            int partitionId = partitionFor(tenantId);
+            moved += jobRepository.repartition(tenantId, partitionCount, partitionId);
+            readyJobRepository.repartition(tenantId, partitionCount, partitionId);
+        }
+        if (moved > 0) {
+            log.info("Moved {} jobs of {} tenants onto the {} configured partitions",
+                    moved, tenantIds.size(), partitionCount);
+        }
+    }
+
+    /**
+     * Rebuilds ready-queue rows for PENDING jobs written before the ready queue existed, or
+     * by a node that died between the two writes. Runs before the workers start leasing.
+     * Not transactional: the insert commits or rolls back on its own, so a duplicate from
+     * another node's backfill is caught here instead of failing the surrounding commit.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void backfillReadyQueue() {
+        try {
+            int enqueued = readyJobRepository.backfill(JobStatus.PENDING);
+            if (enqueued > 0) {
+                log.info("Backfilled {} pending jobs into the ready queue", enqueued);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another node backfilled concurrently
+            log.info("Ready queue backfill skipped: {}", e.getMessage());
         }
     }
 
     public JobResponse getJobStatus(UUID jobId) {
+        JobResponse cached = jobStatusCache.get(jobId);
+        if (cached != null) {
+            return cached;
+        }
+
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId));
-        return toJobResponse(job);
+        JobResponse response = toJobResponse(job);
+        jobStatusCache.put(response);
+        return response;
     }
 
     @Transactional
-    public Job leaseJob() {
-        LocalDateTime expiryTime = LocalDateTime.now()
-                .minusSeconds(properties.getWorker().getLeaseDurationSeconds());
+    public Job leaseJob(String queue) {
+        long startMillis = clock.millis();
+        long startNanos = System.nanoTime();
+        LocalDateTime now = toLocalDateTime(startMillis);
+        JobLeaseEvent event = new JobLeaseEvent();
+        event.begin();
+        Job leased = null;
+
+        // Each node starts at a different partition and rotates, so nodes rarely race on the same rows
+        JobProcessorProperties.Partitioning partitioning = properties.getPartitioning();
+        int partitionCount = partitionCount();
+        int firstPartition = Math.floorMod(partitionCursor.getAndIncrement(), partitionCount);
+        PageRequest candidatePage = PageRequest.of(0, partitioning.getCandidatesPerLease());
+        AtomicLongArray emptyUntil = emptyPartitionUntil.computeIfAbsent(queue,
+                name -> new AtomicLongArray(MAX_PARTITIONS));
+        Set<String> blockedKeys = circuitBreakerService.blockedKeys();
+
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                int partition = (firstPartition + i) % partitionCount;
+                if (emptyUntil.get(partition) > startMillis) {
+                    continue;
+                }
 
-        List<Job> availableJobs = jobRepository.findAvailableJobsForProcessing(
-                JobStatus.PENDING, expiryTime);
+                // Excluded in the query so a tripped type cannot crowd healthy jobs out of the page
+                List<ReadyJob> candidates = blockedKeys.isEmpty()
+                        ? readyJobRepository.findLeaseCandidates(queue, partition, now, candidatePage)
+                        : readyJobRepository.findLeaseCandidatesExcluding(queue, partition, now, blockedKeys,
+                                candidatePage);
+                partitionScans.increment();
+                event.partitionsScanned++;
+                if (candidates.isEmpty()) {
+                    emptyUntil.set(partition, startMillis + partitioning.getEmptyPartitionBackoffMs());
+                    continue;
+                }
 
-        for (Job job : availableJobs) {
-            int updated = jobRepository.leaseJob(
-                    job.getId(),
-                    JobStatus.PENDING,
-                    JobStatus.RUNNING,
-                    LocalDateTime.now()
-            );
+                // Start at a random candidate so workers scanning the same partition spread out
+                int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+                for (int c = 0; c < candidates.size(); c++) {
+                    ReadyJob candidate = candidates.get((offset + c) % candidates.size());
+                    UUID jobId = candidate.getJobId();
+                    // A half-open breaker admits only as many jobs as it has probes
+                    if (!circuitBreakerService.tryAcquire(candidate.getJobType(), candidate.getTenantId())) {
+                        continue;
+                    }
+                    leaseAttempts.increment();
+                    event.attempts++;
 
-            if (updated > 0) {
-                job.setStatus(JobStatus.RUNNING);
-                job.setLeasedAt(LocalDateTime.now());
-                job.setStartedAt(LocalDateTime.now());
-                log.info("[traceId:{}] Job leased: {}", getTraceId(), job.getId());
-                return jobRepository.findById(job.getId()).orElse(job);
+                    // Deleting the ready row is the claim; a concurrent claimer deletes nothing
+                    if (readyJobRepository.claim(jobId) == 0) {
+                        leaseConflicts.increment();
+                        event.conflicts++;
+                        circuitBreakerService.release(candidate.getJobType(), candidate.getTenantId());
+                        continue;
+                    }
+                    // A stale row for a job that already left PENDING is dropped by the claim above
+                    if (jobRepository.leaseJob(jobId, JobStatus.PENDING, JobStatus.RUNNING, now) == 0) {
+                        circuitBreakerService.release(candidate.getJobType(), candidate.getTenantId());
+                        continue;
+                    }
+                    leased = markLeased(jobRepository.findById(jobId)
+                            .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId)),
+                            now, startMillis, startNanos);
+                    return leased;
+                }
+            }
+
+            return null;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.queue = queue;
+                if (leased != null) {
+                    event.leased = true;
+                    event.jobId = leased.getId().toString();
+                    event.tenantId = leased.getTenantId();
+                }
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Leases up to {@code limit} more PENDING jobs that can run in one batch with
+     * {@code first}: same queue, tenant and type. Returns what it could claim, possibly nothing.
+     */
+    @Transactional
+    public List<Job> leaseBatch(Job first, int limit) {
+        long startMillis = clock.millis();
+        long startNanos = System.nanoTime();
+        LocalDateTime now = toLocalDateTime(startMillis);
+        if (!circuitBreakerService.isClosed(first.getJobType(), first.getTenantId())) {
+            return List.of();
+        }
+
+        List<ReadyJob> candidates = readyJobRepository.findBatchCandidates(first.getQueue(),
+                first.getPartitionId(), first.getTenantId(), first.getJobType(), now, PageRequest.of(0, limit));
+        List<UUID> leasedIds = new ArrayList<>(candidates.size());
+        for (ReadyJob candidate : candidates) {
+            UUID jobId = candidate.getJobId();
+            leaseAttempts.increment();
+            if (readyJobRepository.claim(jobId) == 0) {
+                leaseConflicts.increment();
+                continue;
+            }
+            if (jobRepository.leaseJob(jobId, JobStatus.PENDING, JobStatus.RUNNING, now) == 0) {
+                continue;
             }
+            leasedIds.add(jobId);
         }
+        if (leasedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Job> jobs = jobRepository.findAllById(leasedIds);
+        for (Job job : jobs) {
+            markLeased(job, now, startMillis, startNanos);
+        }
+        return jobs;
+    }
+
+    private Job markLeased(Job job, LocalDateTime now, long startMillis, long startNanos) {
+        UUID jobId = job.getId();
+        job.setStartedAt(now);
+        job.setUpdatedAt(now);
+        changeFeedService.record(job);
+        jobStatusCache.invalidate(jobId);
+        admissionControlService.onLeased(job.getTenantId());
+        log.info("[traceId:{}] Job leased: {}", job.getTraceId(), jobId);
 
-        return null;
+        long createdMillis = job.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli();
+        spanRecorder.record(job.getTraceId(), jobId, TraceSpan.Stage.QUEUED, createdMillis,
+                TimeUnit.MILLISECONDS.toNanos(Math.max(0, startMillis - createdMillis)));
+        spanRecorder.recordSince(job.getTraceId(), jobId, TraceSpan.Stage.LEASED,
+                startMillis, startNanos);
+        return job;
     }
 
+    public int partitionFor(String tenantId) {
+        return Math.floorMod(tenantId.hashCode(), partitionCount());
+    }
+
+    private int partitionCount() {
+        return Math.max(1, Math.min(properties.getPartitioning().getPartitionCount(), MAX_PARTITIONS));
+    }
+
+    public long getLeaseAttempts() {
+        return leaseAttempts.sum();
+    }
+
+    public long getLeaseConflicts() {
+        return leaseConflicts.sum();
+    }
+
+    public long getPartitionScans() {
+        return partitionScans.sum();
+    }
+
+    /**
+     * RUNNING jobs in the queue leased before the cutoff, oldest lease first. Candidates for
+     * {@link #reclaimExpiredLease}; the caller decides whether each lease has expired.
+     */
+    public List<Job> findLeasedBefore(String queue, LocalDateTime cutoff, int limit) {
+        return jobRepository.findLeasedBefore(queue, JobStatus.RUNNING, cutoff, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Fails the execution of a job whose lease expired on a node that stopped acknowledging
+     * it, so it is retried or dead-lettered like a timeout. Returns false if the job was
+     * acknowledged, released or reclaimed by another node since its lease was read.
+     */
     @Transactional
-    public void acknowledgeJob(UUID jobId, boolean success, String errorMessage) {
+    public boolean reclaimExpiredLease(UUID jobId, LocalDateTime leasedAt, String errorMessage) {
+        long startMillis = clock.millis();
+        long startNanos = System.nanoTime();
+        if (jobRepository.claimExpiredLease(jobId, JobStatus.RUNNING, leasedAt, toLocalDateTime(startMillis)) == 0) {
+            return false;
+        }
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId));
+        if (!acknowledge(job, false, errorMessage, null, startMillis, startNanos)) {
+            return false;
+        }
+        reclaimedLeases.increment();
+        return true;
+    }
+
+    public long getReclaimedLeases() {
+        return reclaimedLeases.sum();
+    }
+
+    @Transactional
+    public void acknowledgeJob(UUID jobId, boolean success, String errorMessage) {
+        acknowledgeJob(jobId, success, errorMessage, null);
+    }
 
-        String traceId = getTraceId();
-        MDC.put("traceId", traceId);
+    @Transactional
+    public void acknowledgeJob(UUID jobId, boolean success, String errorMessage, ResultStore.Location result) {
+        long startMillis = clock.millis();
+        long startNanos = System.nanoTime();
+        JobAckEvent event = new JobAckEvent();
+        event.begin();
 
+        Job job = null;
         try {
-            if (success) {
-                job.setStatus(JobStatus.COMPLETED);
-                job.setCompletedAt(LocalDateTime.now());
-                log.info("[traceId:{}] Job completed: {}", traceId, jobId);
-            } else {
-                if (job.canRetry()) {
-                    job.setRetryCount(job.getRetryCount() + 1);
-                    job.setStatus(JobStatus.PENDING);
-                    job.setLeasedAt(null);
-                    job.setStartedAt(null);
-                    job.setErrorMessage(errorMessage);
-                    log.warn("[traceId:{}] Job failed, retrying ({}/{}): {}",
-                            traceId, job.getRetryCount(), job.getMaxRetries(), jobId);
-                } else {
-                    job.setStatus(JobStatus.DLQ);
-                    job.setErrorMessage(errorMessage);
-                    job.setCompletedAt(LocalDateTime.now());
-                    log.error("[traceId:{}] Job moved to DLQ after max retries: {}", traceId, jobId);
-                }
+            job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId));
+            if (acknowledge(job, success, errorMessage, result, startMillis, startNanos)) {
+                event.status = job.getStatus().name();
+                event.retryCount = job.getRetryCount();
+            }
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.jobId = jobId.toString();
+                event.tenantId = job != null ? job.getTenantId() : null;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    private boolean acknowledge(Job job, boolean success, String errorMessage, ResultStore.Location result,
+                                long startMillis, long startNanos) {
+        UUID jobId = job.getId();
+        LocalDateTime now = toLocalDateTime(startMillis);
+
+        String traceId = job.getTraceId();
+        try (TraceContext.Scope ignored = TraceContext.open(traceId)) {
+            if (!applyOutcome(job, success, errorMessage, result, now)) {
+                return false;
             }
 
             jobRepository.save(job);
-        } finally {
-            MDC.clear();
+            changeFeedService.record(job);
+            if (job.getStatus() == JobStatus.PENDING) {
+                readyJobRepository.save(ReadyJob.of(job, now));
+            }
+            jobDeduplicationService.resolveFollowers(job, now);
+            jobStatusCache.invalidate(jobId);
+            spanRecorder.recordSince(traceId, jobId, TraceSpan.Stage.ACKED, startMillis, startNanos);
+            return true;
+        }
+    }
+
+    /**
+     * Acknowledges the jobs of one batch execution in a single transaction, writing the
+     * updated rows as one JDBC batch. Jobs no longer RUNNING are skipped as in
+     * {@link #acknowledgeJob}. Returns how many were acknowledged.
+     */
+    @Transactional
+    public int acknowledgeBatch(List<JobAcknowledgement> acknowledgements) {
+        long startMillis = clock.millis();
+        long startNanos = System.nanoTime();
+        LocalDateTime now = toLocalDateTime(startMillis);
+
+        List<UUID> jobIds = acknowledgements.stream().map(JobAcknowledgement::jobId).toList();
+        Map<UUID, Job> jobs = jobRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        List<Job> acknowledged = new ArrayList<>(jobs.size());
+        List<ReadyJob> retries = new ArrayList<>();
+        for (JobAcknowledgement acknowledgement : acknowledgements) {
+            Job job = jobs.get(acknowledgement.jobId());
+            if (job == null) {
+                log.warn("Ignoring acknowledgement for missing job {}", acknowledgement.jobId());
+                continue;
+            }
+            try (TraceContext.Scope ignored = TraceContext.open(job.getTraceId())) {
+                if (!applyOutcome(job, acknowledgement.success(), acknowledgement.errorMessage(),
+                        acknowledgement.result(), now)) {
+                    continue;
+                }
+            }
+            acknowledged.add(job);
+            if (job.getStatus() == JobStatus.PENDING) {
+                retries.add(ReadyJob.of(job, now));
+            }
+        }
+
+        jobRepository.saveAll(acknowledged);
+        changeFeedService.recordAll(acknowledged);
+        readyJobRepository.saveAll(retries);
+        for (Job job : acknowledged) {
+            jobDeduplicationService.resolveFollowers(job, now);
+            spanRecorder.recordSince(job.getTraceId(), job.getId(), TraceSpan.Stage.ACKED, startMillis, startNanos);
+        }
+        jobStatusCache.invalidateAll(jobIds);
+        return acknowledged.size();
+    }
+
+    /**
+     * Moves a RUNNING job to its next state for one execution outcome. Returns false, leaving
+     * the job untouched, if it is no longer RUNNING.
+     */
+    private boolean applyOutcome(Job job, boolean success, String errorMessage, ResultStore.Location result,
+                                 LocalDateTime now) {
+        UUID jobId = job.getId();
+        String traceId = job.getTraceId();
+        if (job.getStatus() != JobStatus.RUNNING) {
+            // Released or already acknowledged; this outcome no longer owns the job
+            log.warn("[traceId:{}] Ignoring acknowledgement for job {} in status {}",
+                    traceId, jobId, job.getStatus());
+            return false;
+        }
+        // A rolled-back acknowledgement leaves the job RUNNING, so its outcome must not count
+        String jobType = job.getJobType();
+        String tenantId = job.getTenantId();
+        AfterCommit.run(() -> circuitBreakerService.recordOutcome(jobType, tenantId, success));
+        job.setUpdatedAt(now);
+        if (success) {
+            job.setStatus(JobStatus.COMPLETED);
+            job.setCompletedAt(now);
+            if (result != null) {
+                job.setResultStoreId(result.storeId());
+                job.setResultSegment(result.segment());
+                job.setResultOffset(result.offset());
+                job.setResultLength(result.length());
+            }
+            log.info("[traceId:{}] Job completed: {}", traceId, jobId);
+        } else if (job.canRetry()) {
+            job.setRetryCount(job.getRetryCount() + 1);
+            job.setStatus(JobStatus.PENDING);
+            job.setLeasedAt(null);
+            job.setStartedAt(null);
+            job.setErrorMessage(errorMessage);
+            log.warn("[traceId:{}] Job failed, retrying ({}/{}): {}",
+                    traceId, job.getRetryCount(), job.getMaxRetries(), jobId);
+        } else {
+            job.setStatus(JobStatus.DLQ);
+            job.setErrorMessage(errorMessage);
+            job.setCompletedAt(now);
+            log.error("[traceId:{}] Job moved to DLQ after max retries: {}", traceId, jobId);
+        }
+        return true;
+    }
+
+    @Transactional
+    public int redriveJobs(List<UUID> jobIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int redriven = jobRepository.redriveJobs(jobIds, JobStatus.DLQ, JobStatus.PENDING, now);
+        if (redriven > 0) {
+            readyJobRepository.enqueueJobs(jobIds, JobStatus.PENDING);
+            changeFeedService.recordJobs(jobIds, now);
+        }
+        jobStatusCache.invalidateAll(jobIds);
+        return redriven;
+    }
+
+    /**
+     * Hands leased jobs back to PENDING without counting an attempt, for a node that stops
+     * before they finish.
+     */
+    @Transactional
+    public int releaseJobs(List<UUID> jobIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int released = jobRepository.releaseJobs(jobIds, JobStatus.RUNNING, JobStatus.PENDING, now);
+        if (released > 0) {
+            readyJobRepository.enqueueJobs(jobIds, JobStatus.PENDING);
+            changeFeedService.recordJobs(jobIds, now);
         }
+        jobStatusCache.invalidateAll(jobIds);
+        return released;
+    }
+
+    public ResultStore.Location getJobResult(UUID jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId));
+        if (job.getResultSegment() == null) {
+            throw new ResultNotFoundException("No result stored for job: " + jobId);
+        }
+        return new ResultStore.Location(job.getResultStoreId(), job.getResultSegment(), job.getResultOffset(),
+                job.getResultLength());
+    }
+
+    /**
+     * Drops the references to one store's result segment that is about to be deleted.
+     */
+    @Transactional
+    public int clearResults(String storeId, long segment) {
+        List<UUID> jobIds = jobRepository.findIdsByResultSegment(storeId, segment);
+        int cleared = jobRepository.clearResultSegment(storeId, segment, LocalDateTime.now(clock));
+        jobStatusCache.invalidateAll(jobIds);
+        return cleared;
     }
 
     public List<JobResponse> getJobsByStatus(JobStatus status) {
@@ -146,24 +660,54 @@ public class JobService {
                 .collect(Collectors.toList());
     }
 
-    private JobResponse toJobResponse(Job job) {
-        return JobResponse.builder()
-                .id(job.getId())
-                .tenantId(job.getTenantId())
-                .status(job.getStatus())
-                .payload(job.getPayload())
-                .idempotencyKey(job.getIdempotencyKey())
-                .retryCount(job.getRetryCount())
-                .maxRetries(job.getMaxRetries())
-                .errorMessage(job.getErrorMessage())
-                .createdAt(job.getCreatedAt())
-                .startedAt(job.getStartedAt())
-                .completedAt(job.getCompletedAt())
+    public DashboardStats getDashboardStats() {
+        Map<JobStatus, Long> counts = new EnumMap<>(JobStatus.class);
+        for (Object[] row : jobRepository.countGroupedByStatus()) {
+            counts.put((JobStatus) row[0], (Long) row[1]);
+        }
+
+        long pending = counts.getOrDefault(JobStatus.PENDING, 0L);
+        long running = counts.getOrDefault(JobStatus.RUNNING, 0L);
+        long completed = counts.getOrDefault(JobStatus.COMPLETED, 0L);
+        long failed = counts.getOrDefault(JobStatus.FAILED, 0L);
+        long dlq = counts.getOrDefault(JobStatus.DLQ, 0L);
+        return DashboardStats.builder()
+                .pendingJobs(pending)
+                .runningJobs(running)
+                .completedJobs(completed)
+                .failedJobs(failed)
+                .dlqJobs(dlq)
+                .totalJobs(pending + running + completed + failed + dlq)
+                .circuitBreakers(circuitBreakerService.getTrippedBreakers())
                 .build();
     }
 
-    private String getTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+
+    // Built per status read and per submission, so this skips the intermediate builder
+    JobResponse toJobResponse(Job job) {
+        JobResponse response = new JobResponse();
+        response.setId(job.getId());
+        response.setTraceId(job.getTraceId());
+        response.setTenantId(job.getTenantId());
+        response.setType(job.getJobType());
+        response.setQueue(job.getQueue());
+        response.setStatus(job.getStatus());
+        response.setPriority(job.getPriority());
+        response.setPayload(job.getPayload());
+        response.setIdempotencyKey(job.getIdempotencyKey());
+        response.setLeaderJobId(job.getLeaderJobId());
+        response.setRetryCount(job.getRetryCount());
+        response.setMaxRetries(job.getMaxRetries());
+        response.setErrorMessage(job.getErrorMessage());
+        response.setResultBytes(job.getResultLength());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setCompletedAt(job.getCompletedAt());
+        response.setUpdatedAt(job.getUpdatedAt());
+        return response;
     }
 
     public static class JobNotFoundException extends RuntimeException {
@@ -172,9 +716,45 @@ public class JobService {
         }
     }
 
+    public static class ResultNotFoundException extends RuntimeException {
+        public ResultNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    public static class UnknownQueueException extends RuntimeException {
+        public UnknownQueueException(String message) {
+            super(message);
+        }
+    }
+
     public static class RateLimitExceededException extends RuntimeException {
+        private final long retryAfterSeconds;
+
         public RateLimitExceededException(String message) {
+            this(message, 0);
+        }
+
+        public RateLimitExceededException(String message, long retryAfterSeconds) {
             super(message);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    public static class OverloadedException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        public OverloadedException(String message, long retryAfterSeconds) {
+            super(message);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
         }
     }
 }
@@ -0,0 +1,107 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through cache of job status responses. Non-terminal jobs expire after a short TTL
+ * because transitions made by other nodes are not visible to this node's invalidations.
+ * Terminal jobs change rarely (a DLQ redrive, a result swept past retention), so they get
+ * a longer TTL that bounds how long another node's change stays hidden. Invalidations
+ * run after the surrounding transaction commits, so a concurrent read cannot put the
+ * pre-commit state back.
+ */
+@Component
+public class JobStatusCache {
+
+    private static final int BASE_ENTRY_WEIGHT = 256;
+
+    private final Cache<UUID, JobResponse> cache;
+
+    public JobStatusCache(JobProcessorProperties properties) {
+        long nonTerminalTtlNanos = TimeUnit.MILLISECONDS.toNanos(
+                properties.getStatusCache().getNonTerminalTtlMs());
+        long terminalTtlNanos = TimeUnit.MILLISECONDS.toNanos(properties.getStatusCache().getTerminalTtlMs());
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getStatusCache().getMaxWeightBytes())
+                .weigher((UUID jobId, JobResponse response) -> weigh(response))
+                .expireAfter(new Expiry<UUID, JobResponse>() {
+                    @Override
+                    public long expireAfterCreate(UUID jobId, JobResponse response, long currentTime) {
+                        return response.getStatus().isTerminal() ? terminalTtlNanos : nonTerminalTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID jobId, JobResponse response,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(jobId, response, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID jobId, JobResponse response,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public JobResponse get(UUID jobId) {
+        return cache.getIfPresent(jobId);
+    }
+
+    public void put(JobResponse response) {
+        cache.put(response.getId(), response);
+    }
+
+    public void invalidate(UUID jobId) {
+        AfterCommit.run(() -> cache.invalidate(jobId));
+    }
+
+    public void invalidateAll(Collection<UUID> jobIds) {
+        List<UUID> ids = List.copyOf(jobIds);
+        AfterCommit.run(() -> cache.invalidateAll(ids));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public static String etag(JobResponse response) {
+        long version = response.getUpdatedAt() != null
+                ? response.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        return "\"" + response.getStatus().ordinal() + "-" + response.getRetryCount()
+                + "-" + Long.toHexString(version) + "\"";
+    }
+
+    private static int weigh(JobResponse response) {
+        // Rough UTF-16 footprint of the variable-length fields plus fixed object overhead
+        return BASE_ENTRY_WEIGHT
+                + 2 * (length(response.getPayload())
+                + length(response.getErrorMessage())
+                + length(response.getTenantId())
+                + length(response.getIdempotencyKey()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
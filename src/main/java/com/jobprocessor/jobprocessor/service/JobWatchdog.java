@@ -0,0 +1,195 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.model.Job;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Single thread that enforces execution deadlines for every running job on this node.
+ * Each execution races the watchdog for its outcome: whichever side moves it out of
+ * RUNNING first owns the acknowledgement, so a job is never acknowledged twice. Timeouts
+ * are acknowledged on a separate pool so a slow write never delays the next deadline.
+ */
+@Component
+@Slf4j
+public class JobWatchdog {
+
+    private final DelayQueue<Execution> deadlines = new DelayQueue<>();
+    private final LongAdder timedOutExecutions = new LongAdder();
+    private final AtomicInteger abandonedThreads = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread watchdogThread;
+    private ExecutorService timeoutExecutor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger counter = new AtomicInteger();
+        timeoutExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "job-watchdog-timeout-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        watchdogThread = new Thread(this::watch, "job-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        watchdogThread.interrupt();
+        watchdogThread.join(TimeUnit.SECONDS.toMillis(5));
+        // Timeouts already taken still get acknowledged
+        timeoutExecutor.shutdown();
+        timeoutExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public Execution register(Job job, long timeoutMs, Consumer<Execution> onTimeout) {
+        Execution execution = new Execution(job.getId(), job.getTraceId(), Thread.currentThread(),
+                timeoutMs, onTimeout);
+        deadlines.add(execution);
+        return execution;
+    }
+
+    /**
+     * Called by the worker when its handler returns. Returns false if the watchdog has
+     * already timed the execution out, or it was released, in which case the worker must
+     * not acknowledge it.
+     */
+    public boolean complete(Execution execution) {
+        if (execution.state.compareAndSet(Execution.RUNNING, Execution.COMPLETED)) {
+            deadlines.remove(execution);
+            return true;
+        }
+        int state = execution.state.get();
+        if (state == Execution.TIMED_OUT) {
+            // Once this returns the thread moves on, so the watchdog must not interrupt it any more
+            synchronized (execution) {
+                execution.ownsWorker = false;
+            }
+            // The handler eventually returned; its thread is usable again
+            abandonedThreads.decrementAndGet();
+        }
+        if (state == Execution.TIMED_OUT || state == Execution.RELEASED) {
+            Thread.interrupted();
+        }
+        return false;
+    }
+
+    /**
+     * Takes the outcome away from a running execution so the job can be handed back to the
+     * queue. Returns false if the handler already completed or timed out.
+     */
+    public boolean release(Execution execution) {
+        if (execution.state.compareAndSet(Execution.RUNNING, Execution.RELEASED)) {
+            deadlines.remove(execution);
+            return true;
+        }
+        return false;
+    }
+
+    public long getTimedOutExecutions() {
+        return timedOutExecutions.sum();
+    }
+
+    public int getAbandonedThreads() {
+        return abandonedThreads.get();
+    }
+
+    private void watch() {
+        while (running) {
+            Execution execution;
+            try {
+                execution = deadlines.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (!execution.state.compareAndSet(Execution.RUNNING, Execution.TIMED_OUT)) {
+                continue;
+            }
+
+            timedOutExecutions.increment();
+            abandonedThreads.incrementAndGet();
+            log.warn("[traceId:{}] Job {} exceeded its {}ms deadline, interrupting worker {}",
+                    execution.traceId, execution.jobId, execution.timeoutMs, execution.worker.getName());
+            // The handler may have returned since the CAS; then its thread already runs other work
+            synchronized (execution) {
+                if (execution.ownsWorker) {
+                    execution.worker.interrupt();
+                }
+            }
+
+            timeoutExecutor.execute(() -> recordTimeout(execution));
+        }
+    }
+
+    private void recordTimeout(Execution execution) {
+        try {
+            execution.onTimeout.accept(execution);
+        } catch (Exception e) {
+            log.error("[traceId:{}] Failed to record timeout for job {}: {}",
+                    execution.traceId, execution.jobId, e.getMessage(), e);
+        }
+    }
+
+    public static final class Execution implements Delayed {
+        private static final int RUNNING = 0;
+        private static final int COMPLETED = 1;
+        private static final int TIMED_OUT = 2;
+        private static final int RELEASED = 3;
+
+        private final UUID jobId;
+        private final String traceId;
+        private final Thread worker;
+        private final long timeoutMs;
+        private final long deadlineNanos;
+        private final Consumer<Execution> onTimeout;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        // Guarded by this; cleared by the worker once a timed-out handler returns
+        private boolean ownsWorker = true;
+
+        private Execution(UUID jobId, String traceId, Thread worker, long timeoutMs,
+                          Consumer<Execution> onTimeout) {
+            this.jobId = jobId;
+            this.traceId = traceId;
+            this.worker = worker;
+            this.timeoutMs = timeoutMs;
+            this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            this.onTimeout = onTimeout;
+        }
+
+        public UUID getJobId() {
+            return jobId;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((Execution) other).deadlineNanos);
+        }
+    }
+}
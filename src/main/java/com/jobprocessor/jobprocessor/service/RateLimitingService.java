@@ -7,7 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,59 +18,102 @@ public class RateLimitingService {
 
     private final JobRepository jobRepository;
     private final JobProcessorProperties properties;
+    private final Clock clock;
     private final Map<String, RateLimitWindow> tenantRateLimitWindows = new ConcurrentHashMap<>();
 
     public boolean canSubmitJob(String tenantId) {
-        // Check concurrent jobs limit
+        return isWithinConcurrencyLimit(tenantId) && tryRecordSubmission(tenantId);
+    }
+
+    public boolean isWithinConcurrencyLimit(String tenantId) {
         long runningJobs = jobRepository.countByTenantIdAndStatus(tenantId, JobStatus.RUNNING);
         if (runningJobs >= properties.getRateLimit().getMaxConcurrentJobsPerTenant()) {
             log.warn("[traceId:{}] Tenant {} exceeded concurrent jobs limit: {}/{}",
-                    getTraceId(), tenantId, runningJobs, properties.getRateLimit().getMaxConcurrentJobsPerTenant());
+                    TraceContext.current(), tenantId, runningJobs, properties.getRateLimit().getMaxConcurrentJobsPerTenant());
             return false;
         }
+        return true;
+    }
 
+    public boolean tryRecordSubmission(String tenantId) {
         // Check rate limit (jobs per minute)
-        RateLimitWindow window = tenantRateLimitWindows.computeIfAbsent(tenantId,
-                k -> new RateLimitWindow(LocalDateTime.now()));
+        JobProcessorProperties.RateLimit config = properties.getRateLimit();
+        RateLimitWindow window = tenantRateLimitWindows.get(tenantId);
+        if (window == null) {
+            // The capturing lambda is only allocated for a tenant's first submission
+            window = tenantRateLimitWindows.computeIfAbsent(tenantId,
+                    k -> new RateLimitWindow(config.getMaxJobsPerMinutePerTenant()));
+        }
 
-        window.cleanOldEntries(properties.getRateLimit().getWindowSizeSeconds());
+        synchronized (window) {
+            long nowMillis = clock.millis();
+            window.evictBefore(nowMillis - config.getWindowSizeSeconds() * 1000L);
 
-        if (window.getJobCount() >= properties.getRateLimit().getMaxJobsPerMinutePerTenant()) {
-            log.warn("[traceId:{}] Tenant {} exceeded rate limit: {}/{} jobs per minute",
-                    getTraceId(), tenantId, window.getJobCount(),
-                    properties.getRateLimit().getMaxJobsPerMinutePerTenant());
-            return false;
-        }
+            if (window.getJobCount() >= config.getMaxJobsPerMinutePerTenant()) {
+                log.warn("[traceId:{}] Tenant {} exceeded rate limit: {}/{} jobs per minute",
+                        TraceContext.current(), tenantId, window.getJobCount(),
+                        config.getMaxJobsPerMinutePerTenant());
+                return false;
+            }
 
-        window.recordJob();
-        return true;
+            window.recordJob(nowMillis);
+            return true;
+        }
     }
 
-    private String getTraceId() {
-        return java.util.UUID.randomUUID().toString().substring(0, 8);
+    public long retryAfterSeconds(String tenantId) {
+        RateLimitWindow window = tenantRateLimitWindows.get(tenantId);
+        if (window == null) {
+            return 1;
+        }
+        synchronized (window) {
+            return window.secondsUntilSlotFrees(properties.getRateLimit().getWindowSizeSeconds(), clock.millis());
+        }
     }
 
+    /**
+     * Submission times in epoch millis, oldest first, in a ring that grows only if the
+     * limit is raised at runtime.
+     */
     private static class RateLimitWindow {
-        private final LocalDateTime windowStart;
-        private final java.util.List<LocalDateTime> jobTimestamps = new java.util.ArrayList<>();
+        private long[] timestamps;
+        private int head;
+        private int size;
 
-        public RateLimitWindow(LocalDateTime windowStart) {
-            this.windowStart = windowStart;
+        RateLimitWindow(int capacity) {
+            this.timestamps = new long[Math.max(1, capacity)];
         }
 
-        public void cleanOldEntries(int windowSizeSeconds) {
-            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(windowSizeSeconds);
-            jobTimestamps.removeIf(timestamp -> timestamp.isBefore(cutoff));
+        void evictBefore(long cutoffMillis) {
+            while (size > 0 && timestamps[head] < cutoffMillis) {
+                head = (head + 1) % timestamps.length;
+                size--;
+            }
         }
 
-        public void recordJob() {
-            jobTimestamps.add(LocalDateTime.now());
+        void recordJob(long nowMillis) {
+            if (size == timestamps.length) {
+                long[] grown = new long[timestamps.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = timestamps[(head + i) % timestamps.length];
+                }
+                timestamps = grown;
+                head = 0;
+            }
+            timestamps[(head + size) % timestamps.length] = nowMillis;
+            size++;
         }
 
-        public int getJobCount() {
-            return jobTimestamps.size();
+        int getJobCount() {
+            return size;
+        }
+
+        long secondsUntilSlotFrees(int windowSizeSeconds, long nowMillis) {
+            if (size == 0) {
+                return 1;
+            }
+            long oldestExpiryMillis = timestamps[head] + windowSizeSeconds * 1000L;
+            return Math.max(1, (oldestExpiryMillis - nowMillis) / 1000 + 1);
         }
     }
 }
-
-
@@ -0,0 +1,353 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobRequest;
+import com.jobprocessor.jobprocessor.dto.JobResponse;
+import com.jobprocessor.jobprocessor.dto.RecurringJobRequest;
+import com.jobprocessor.jobprocessor.dto.RecurringJobResponse;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.RecurringJob;
+import com.jobprocessor.jobprocessor.repository.RecurringJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Stores recurring job definitions and materializes their firings from an in-memory queue
+ * of next-fire times. Every node runs the same schedule; each firing is submitted with an
+ * idempotency key derived from the definition and its cron slot, so whichever node fires
+ * first creates the job and the others get it back. Slots missed while no node was
+ * running are skipped rather than replayed.
+ */
+@Service
+@Slf4j
+public class RecurringJobService {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,100}");
+
+    private final RecurringJobRepository recurringJobRepository;
+    private final JobService jobService;
+    private final JobProcessorProperties.Recurring config;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition scheduleChanged = lock.newCondition();
+    // Superseded firings stay queued and are dropped when they reach the head
+    private final PriorityQueue<Firing> firings = new PriorityQueue<>(Comparator.comparingLong(Firing::fireAtMillis));
+    private final Map<String, Firing> nextFirings = new HashMap<>();
+    private final LongAdder materializedJobs = new LongAdder();
+    private final LongAdder failedFirings = new LongAdder();
+
+    private volatile boolean running;
+    private Thread schedulerThread;
+
+    public RecurringJobService(RecurringJobRepository recurringJobRepository, JobService jobService,
+                               JobProcessorProperties properties, Clock clock) {
+        this.recurringJobRepository = recurringJobRepository;
+        this.jobService = jobService;
+        this.config = properties.getRecurring();
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            log.info("Recurring jobs disabled, this node will not materialize them");
+            return;
+        }
+        reload();
+        running = true;
+        schedulerThread = new Thread(this::scheduleLoop, "recurring-job-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (schedulerThread == null) {
+            return;
+        }
+        running = false;
+        schedulerThread.interrupt();
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Transactional
+    public RecurringJobResponse upsert(String id, RecurringJobRequest request, String tenantId) {
+        if (!ID_PATTERN.matcher(id).matches()) {
+            throw new IllegalArgumentException("Recurring job id must be 1-100 characters of [A-Za-z0-9._-]");
+        }
+        CronExpression.parse(request.getCron());
+        String queue = jobService.resolveQueue(request.getQueue());
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        RecurringJob definition = recurringJobRepository.findById(id)
+                .orElseGet(() -> RecurringJob.builder().id(id).createdAt(now).build());
+        definition.setTenantId(tenantId);
+        definition.setCron(request.getCron());
+        definition.setPayload(request.getPayload());
+        definition.setJobType(request.getType());
+        definition.setQueue(queue);
+        definition.setPriority(request.getPriority());
+        definition.setTimeoutMs(request.getTimeoutMs());
+        definition.setJitterMs(request.getJitterMs() != null ? request.getJitterMs() : 0L);
+        definition.setEnabled(request.getEnabled() == null || request.getEnabled());
+        definition.setUpdatedAt(now);
+        definition = recurringJobRepository.save(definition);
+
+        log.info("Recurring job {} saved for tenant {} ({})", id, tenantId, definition.getCron());
+        schedule(definition);
+        return toResponse(definition);
+    }
+
+    public RecurringJobResponse getRecurringJob(String id) {
+        return toResponse(findDefinition(id));
+    }
+
+    public List<RecurringJobResponse> getRecurringJobs() {
+        return recurringJobRepository.findAll().stream()
+                .sorted(Comparator.comparing(RecurringJob::getId))
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteRecurringJob(String id) {
+        recurringJobRepository.delete(findDefinition(id));
+        lock.lock();
+        try {
+            nextFirings.remove(id);
+            scheduleChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Recurring job {} deleted", id);
+    }
+
+    /**
+     * Picks up definitions changed through other nodes. Unchanged definitions keep their
+     * pending firing.
+     */
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.recurring.reloadIntervalMs}")
+    public void reload() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<RecurringJob> definitions = recurringJobRepository.findByEnabledTrue();
+        LocalDateTime now = LocalDateTime.now(clock);
+        lock.lock();
+        try {
+            Set<String> ids = new HashSet<>();
+            for (RecurringJob definition : definitions) {
+                ids.add(definition.getId());
+                Firing current = nextFirings.get(definition.getId());
+                if (current == null || !current.definition().getUpdatedAt().equals(definition.getUpdatedAt())) {
+                    scheduleLocked(definition, now);
+                }
+            }
+            nextFirings.keySet().retainAll(ids);
+            scheduleChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(RecurringJob definition) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (definition.getEnabled()) {
+                scheduleLocked(definition, LocalDateTime.now(clock));
+            } else {
+                nextFirings.remove(definition.getId());
+            }
+            scheduleChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleLocked(RecurringJob definition, LocalDateTime after) {
+        CronExpression cron;
+        try {
+            cron = CronExpression.parse(definition.getCron());
+        } catch (IllegalArgumentException e) {
+            log.warn("Recurring job {} has an invalid cron expression, not scheduling: {}",
+                    definition.getId(), e.getMessage());
+            nextFirings.remove(definition.getId());
+            return;
+        }
+
+        LocalDateTime slot = cron.next(after);
+        if (slot == null) {
+            nextFirings.remove(definition.getId());
+            return;
+        }
+        long fireAtMillis = slot.atZone(clock.getZone()).toInstant().toEpochMilli()
+                + jitterMillis(definition.getId(), slot, definition.getJitterMs());
+        Firing firing = new Firing(definition, cron, slot, fireAtMillis);
+        nextFirings.put(definition.getId(), firing);
+        firings.add(firing);
+    }
+
+    private void scheduleLoop() {
+        while (running) {
+            Firing due;
+            lock.lock();
+            try {
+                due = firings.peek();
+                if (due == null) {
+                    scheduleChanged.await();
+                    continue;
+                }
+                if (nextFirings.get(due.definition().getId()) != due) {
+                    firings.poll();
+                    continue;
+                }
+                long waitMs = due.fireAtMillis() - clock.millis();
+                if (waitMs > 0) {
+                    scheduleChanged.await(waitMs, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                firings.poll();
+
+                // Queue the following slot before firing; if we fell behind, skip to the next future slot
+                LocalDateTime now = LocalDateTime.now(clock);
+                LocalDateTime following = due.cron().next(due.slot());
+                scheduleLocked(due.definition(), following != null && following.isBefore(now) ? now : due.slot());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            materialize(due);
+        }
+    }
+
+    private void materialize(Firing firing) {
+        RecurringJob definition = firing.definition();
+        JobRequest request = new JobRequest();
+        request.setPayload(definition.getPayload());
+        request.setType(definition.getJobType());
+        request.setQueue(definition.getQueue());
+        request.setPriority(definition.getPriority());
+        request.setTimeoutMs(definition.getTimeoutMs());
+        request.setIdempotencyKey(idempotencyKey(definition.getId(), firing.slot()));
+
+        try {
+            JobResponse job = jobService.submitScheduledJob(request, definition.getTenantId());
+            materializedJobs.increment();
+            log.info("[traceId:{}] Recurring job {} fired for {}: job {}",
+                    job.getTraceId(), definition.getId(), firing.slot(), job.getId());
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted this slot between our idempotency check and our insert
+            log.debug("Recurring job {} slot {} already materialized", definition.getId(), firing.slot());
+        } catch (Exception e) {
+            failedFirings.increment();
+            log.error("Recurring job {} failed to fire for {}: {}",
+                    definition.getId(), firing.slot(), e.getMessage(), e);
+        }
+    }
+
+    // Resolved in the zone the slots are computed in, so each slot has exactly one key
+    String idempotencyKey(String definitionId, LocalDateTime slot) {
+        return "recurring:" + definitionId + ":" + slot.atZone(clock.getZone()).toEpochSecond();
+    }
+
+    // Derived from the definition and slot so every node waits the same amount
+    static long jitterMillis(String definitionId, LocalDateTime slot, Long jitterMs) {
+        if (jitterMs == null || jitterMs <= 0) {
+            return 0;
+        }
+        long seed = definitionId.hashCode() * 31L + slot.toEpochSecond(ZoneOffset.UTC);
+        return new SplittableRandom(seed).nextLong(jitterMs);
+    }
+
+    private RecurringJob findDefinition(String id) {
+        return recurringJobRepository.findById(id)
+                .orElseThrow(() -> new RecurringJobNotFoundException("Recurring job not found: " + id));
+    }
+
+    private RecurringJobResponse toResponse(RecurringJob definition) {
+        LocalDateTime nextFireAt = null;
+        lock.lock();
+        try {
+            Firing firing = nextFirings.get(definition.getId());
+            if (firing != null) {
+                nextFireAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(firing.fireAtMillis()), clock.getZone());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return RecurringJobResponse.builder()
+                .id(definition.getId())
+                .tenantId(definition.getTenantId())
+                .cron(definition.getCron())
+                .payload(definition.getPayload())
+                .type(definition.getJobType())
+                .queue(definition.getQueue() != null ? definition.getQueue() : Job.DEFAULT_QUEUE)
+                .priority(definition.getPriority())
+                .timeoutMs(definition.getTimeoutMs())
+                .jitterMs(definition.getJitterMs())
+                .enabled(definition.getEnabled())
+                .nextFireAt(nextFireAt)
+                .createdAt(definition.getCreatedAt())
+                .updatedAt(definition.getUpdatedAt())
+                .build();
+    }
+
+    public int getScheduledDefinitions() {
+        lock.lock();
+        try {
+            return nextFirings.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaterializedJobs() {
+        return materializedJobs.sum();
+    }
+
+    public long getFailedFirings() {
+        return failedFirings.sum();
+    }
+
+    private record Firing(RecurringJob definition, CronExpression cron, LocalDateTime slot, long fireAtMillis) {
+    }
+
+    public static class RecurringJobNotFoundException extends RuntimeException {
+        public RecurringJobNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only store for job results. Results are copied into memory-mapped segment files
+ * and addressed by (store, segment, offset, length), which is all a job keeps. Downloads are
+ * streamed from the segment file in small chunks, so a result is never loaded whole onto
+ * the heap. Segments are removed as a whole once everything in them is past retention.
+ * <p>
+ * The store id is generated once per results directory and kept in it. Segment numbers
+ * are only unique within a store, so a node serves and sweeps only its own store's results.
+ */
+@Component
+@Slf4j
+public class ResultStore {
+
+    private static final String SEGMENT_PREFIX = "results-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String STORE_ID_FILE = "store-id";
+
+    private final JobService jobService;
+    private final JobProcessorProperties.Results config;
+    private final Clock clock;
+    private final Path directory;
+
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder deletedSegments = new LongAdder();
+
+    private String storeId;
+
+    // Guarded by this
+    private long activeSegment;
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+
+    public ResultStore(JobService jobService, JobProcessorProperties properties, Clock clock) {
+        this.jobService = jobService;
+        this.config = properties.getResults();
+        this.clock = clock;
+        this.directory = Paths.get(config.getDirectory());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        storeId = loadStoreId();
+        // Segments left by a previous run are never appended to again
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : segments) {
+                activeSegment = Math.max(activeSegment, segmentNumber(segment));
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws IOException {
+        if (activeChannel != null) {
+            activeChannel.close();
+        }
+    }
+
+    public record Location(String storeId, long segment, long offset, int length) {
+    }
+
+    public String getStoreId() {
+        return storeId;
+    }
+
+    /**
+     * Whether the result was written to this node's store. Others' segment numbers name
+     * unrelated files here.
+     */
+    public boolean isLocal(Location location) {
+        return storeId.equals(location.storeId());
+    }
+
+    /**
+     * Appends a result and forces it to disk before returning, so a job is never
+     * acknowledged with a reference to bytes that could be lost.
+     */
+    public Location append(byte[] data) throws IOException {
+        MappedByteBuffer buffer;
+        long segment;
+        int offset;
+        synchronized (this) {
+            if (activeBuffer == null || activeBuffer.remaining() < data.length) {
+                roll(data.length);
+            }
+            buffer = activeBuffer;
+            segment = activeSegment;
+            offset = buffer.position();
+            buffer.put(data);
+        }
+        buffer.force(offset, data.length);
+        storedBytes.add(data.length);
+        return new Location(storeId, segment, offset, data.length);
+    }
+
+    public boolean exists(Location location) {
+        return isLocal(location) && Files.exists(segmentPath(location.segment()));
+    }
+
+    /**
+     * Streams {@code length} bytes starting {@code start} bytes into the result.
+     */
+    public void transferTo(Location location, long start, long length, OutputStream out) throws IOException {
+        if (!isLocal(location)) {
+            throw new IOException("Result is held by store " + location.storeId() + ", not " + storeId);
+        }
+        try (FileChannel channel = FileChannel.open(segmentPath(location.segment()), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = location.offset() + start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new IOException("Result segment " + location.segment() + " ended early");
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Segments are append-only, so a segment last written before the cutoff holds only
+     * results of jobs that finished before it.
+     */
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.results.sweepIntervalMs}")
+    public void sweepExpiredSegments() throws IOException {
+        Instant cutoff = clock.instant().minus(config.getRetentionHours(), ChronoUnit.HOURS);
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : segments) {
+                long segment = segmentNumber(path);
+                if (isActive(segment) || Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+                int released = jobService.clearResults(storeId, segment);
+                Files.deleteIfExists(path);
+                deletedSegments.increment();
+                log.info("Deleted result segment {} past retention ({} job results released)", segment, released);
+            }
+        }
+    }
+
+    public long getStoredBytes() {
+        return storedBytes.sum();
+    }
+
+    public long getDeletedSegments() {
+        return deletedSegments.sum();
+    }
+
+    private synchronized boolean isActive(long segment) {
+        return activeBuffer != null && segment == activeSegment;
+    }
+
+    private void roll(int minimumSize) throws IOException {
+        if (activeChannel != null) {
+            activeChannel.close();
+        }
+        activeSegment++;
+        long size = Math.max(config.getSegmentSizeBytes(), minimumSize);
+        activeChannel = FileChannel.open(segmentPath(activeSegment),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // The mapping stays valid after the channel is closed, for appends still forcing into it
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        log.info("Opened result segment {} ({} bytes)", activeSegment, size);
+    }
+
+    private String loadStoreId() throws IOException {
+        Path file = directory.resolve(STORE_ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.writeString(file, id, StandardOpenOption.CREATE_NEW);
+        log.info("Created result store {} in {}", id, directory);
+        return id;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.dto.JobOutcome;
+import com.jobprocessor.jobprocessor.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@Profile("!replay")
+@Slf4j
+public class SimulatedJobHandler implements JobHandler {
+
+    @Override
+    public String type() {
+        return Job.DEFAULT_TYPE;
+    }
+
+    @Override
+    public JobOutcome handle(Job job) {
+        // Simulate job processing with random success/failure for demonstration
+        // In real scenario, this would parse payload and execute actual task
+        try {
+            // Simulate processing time
+            Thread.sleep(100 + (long)(Math.random() * 500));
+
+            // 80% success rate for demonstration
+            boolean success = Math.random() > 0.2;
+
+            if (!success) {
+                if (job.getRetryCount() < job.getMaxRetries()) {
+                    log.warn("[traceId:{}] Job processing failed, will retry: {}",
+                            MDC.get(TraceContext.TRACE_ID), job.getId());
+                }
+                return JobOutcome.failed("Job processing failed");
+            }
+
+            String result = "{\"jobId\": \"" + job.getId() + "\", \"payloadLength\": "
+                    + (job.getPayload() != null ? job.getPayload().length() : 0) + "}";
+            return JobOutcome.succeeded(result.getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JobOutcome.failed("Job processing interrupted");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobTraceResponse;
+import com.jobprocessor.jobprocessor.dto.TraceSpan;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of the most recent job lifecycle spans. Writers claim a slot
+ * with a single atomic increment and overwrite whatever was there; readers take a
+ * best-effort snapshot.
+ */
+@Component
+public class SpanRecorder {
+
+    private final AtomicReferenceArray<TraceSpan> ring;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SpanRecorder(JobProcessorProperties properties) {
+        int capacity = Integer.highestOneBit(Math.max(2, properties.getTracing().getRingBufferSize()) * 2 - 1);
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public void record(String traceId, UUID jobId, TraceSpan.Stage stage, long startEpochMillis, long durationNanos) {
+        TraceSpan span = new TraceSpan(traceId, jobId, stage, startEpochMillis,
+                TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        ring.set((int) (sequence.getAndIncrement() & mask), span);
+    }
+
+    public void recordSince(String traceId, UUID jobId, TraceSpan.Stage stage, long startEpochMillis, long startNanos) {
+        record(traceId, jobId, stage, startEpochMillis, System.nanoTime() - startNanos);
+    }
+
+    public List<TraceSpan> snapshot() {
+        List<TraceSpan> spans = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            TraceSpan span = ring.get(i);
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    public List<JobTraceResponse> slowest(int limit) {
+        Map<UUID, List<TraceSpan>> byJob = new HashMap<>();
+        for (TraceSpan span : snapshot()) {
+            byJob.computeIfAbsent(span.jobId(), k -> new ArrayList<>()).add(span);
+        }
+
+        return byJob.values().stream()
+                .map(SpanRecorder::toTrace)
+                .sorted(Comparator.comparingLong(JobTraceResponse::getTotalDurationMicros).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public JobTraceResponse findByTraceId(String traceId) {
+        List<TraceSpan> spans = snapshot().stream()
+                .filter(span -> traceId.equals(span.traceId()))
+                .toList();
+        return spans.isEmpty() ? null : toTrace(spans);
+    }
+
+    private static JobTraceResponse toTrace(List<TraceSpan> spans) {
+        List<TraceSpan> ordered = new ArrayList<>(spans);
+        ordered.sort(Comparator.comparingLong(TraceSpan::startEpochMillis)
+                .thenComparing(TraceSpan::stage));
+
+        long startMicros = ordered.get(0).startEpochMillis() * 1000;
+        long endMicros = ordered.stream().mapToLong(TraceSpan::endEpochMicros).max().orElse(startMicros);
+
+        TraceSpan first = ordered.get(0);
+        return JobTraceResponse.builder()
+                .traceId(first.traceId())
+                .jobId(first.jobId())
+                .totalDurationMicros(endMicros - startMicros)
+                .spans(ordered)
+                .build();
+    }
+}
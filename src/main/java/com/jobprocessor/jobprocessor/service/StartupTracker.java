@@ -0,0 +1,50 @@
+package com.jobprocessor.jobprocessor.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long after JVM start this node became ready and leased its first job. The
+ * latter is what a rolling deploy waits on before a new node takes a share of the work.
+ */
+@Component
+@Slf4j
+public class StartupTracker {
+
+    private volatile long readyUptimeMs = -1;
+    private final AtomicLong firstLeaseUptimeMs = new AtomicLong(-1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyUptimeMs = uptimeMs();
+        log.info("Application ready {} ms after JVM start", readyUptimeMs);
+    }
+
+    public void onJobLeased() {
+        if (firstLeaseUptimeMs.get() >= 0) {
+            return;
+        }
+        long uptimeMs = uptimeMs();
+        if (firstLeaseUptimeMs.compareAndSet(-1, uptimeMs)) {
+            log.info("First job leased {} ms after JVM start ({} ms after ready)",
+                    uptimeMs, readyUptimeMs >= 0 ? uptimeMs - readyUptimeMs : -1);
+        }
+    }
+
+    public long getReadyUptimeMs() {
+        return readyUptimeMs;
+    }
+
+    public long getFirstLeaseUptimeMs() {
+        return firstLeaseUptimeMs.get();
+    }
+
+    private static long uptimeMs() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
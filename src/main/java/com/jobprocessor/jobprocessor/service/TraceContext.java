@@ -0,0 +1,54 @@
+package com.jobprocessor.jobprocessor.service;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trace id helpers. A job's trace id is minted once at submit, stored on the job and
+ * bound to the MDC of whichever thread is working on it.
+ */
+public final class TraceContext {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String JOB_ID = "jobId";
+
+    private TraceContext() {
+    }
+
+    public static String newTraceId() {
+        // Correlation only, so a non-cryptographic source is enough
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    public static String current() {
+        String traceId = MDC.get(TRACE_ID);
+        return traceId != null ? traceId : "-";
+    }
+
+    public static Scope open(String traceId) {
+        String previous = MDC.get(TRACE_ID);
+        if (traceId != null) {
+            MDC.put(TRACE_ID, traceId);
+        }
+        return new Scope(previous);
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                MDC.put(TRACE_ID, previous);
+            } else {
+                MDC.remove(TRACE_ID);
+            }
+        }
+    }
+}
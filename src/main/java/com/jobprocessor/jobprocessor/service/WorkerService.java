@@ -1,82 +1,545 @@
 package com.jobprocessor.jobprocessor.service;
 
 import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobAcknowledgement;
+import com.jobprocessor.jobprocessor.dto.JobOutcome;
+import com.jobprocessor.jobprocessor.dto.TraceSpan;
+import com.jobprocessor.jobprocessor.jfr.JobExecuteEvent;
 import com.jobprocessor.jobprocessor.model.Job;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Runs one pool per named queue: its own dispatcher thread, worker threads, concurrency
+ * limit and lease path, so a backlog in one queue never takes another queue's slots.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WorkerService {
 
     private final JobService jobService;
     private final JobProcessorProperties properties;
+    private final SpanRecorder spanRecorder;
+    private final JobWatchdog jobWatchdog;
+    private final StartupTracker startupTracker;
+    private final JobHandlerRegistry jobHandlerRegistry;
+    private final ResultStore resultStore;
+    private final WorkloadCaptureService workloadCaptureService;
+    private final Clock clock;
+    private static final int RECLAIM_CANDIDATES = 500;
 
-    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.worker.pollIntervalMs}")
-    public void pollAndProcessJobs() {
-        try {
-            Job job = jobService.leaseJob();
-            if (job != null) {
-                processJob(job);
+    private final Map<String, QueueWorker> queueWorkers = new LinkedHashMap<>();
+
+    private final Map<UUID, JobWatchdog.Execution> executions = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    public WorkerService(JobService jobService, JobProcessorProperties properties,
+                         SpanRecorder spanRecorder, JobWatchdog jobWatchdog, StartupTracker startupTracker,
+                         JobHandlerRegistry jobHandlerRegistry, ResultStore resultStore,
+                         WorkloadCaptureService workloadCaptureService, Clock clock) {
+        this.jobService = jobService;
+        this.properties = properties;
+        this.spanRecorder = spanRecorder;
+        this.jobWatchdog = jobWatchdog;
+        this.startupTracker = startupTracker;
+        this.jobHandlerRegistry = jobHandlerRegistry;
+        this.resultStore = resultStore;
+        this.workloadCaptureService = workloadCaptureService;
+        this.clock = clock;
+
+        if (properties.getQueues().containsKey(Job.DEFAULT_QUEUE)) {
+            throw new IllegalStateException("The default queue is configured under job-processor.worker");
+        }
+        queueWorkers.put(Job.DEFAULT_QUEUE, new QueueWorker(Job.DEFAULT_QUEUE, properties.getWorker()));
+        properties.getQueues().forEach((name, config) -> queueWorkers.put(name, new QueueWorker(name, config)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Disabling the default worker turns the node into a submit-only node for every queue
+        if (!properties.getWorker().isEnabled()) {
+            log.info("Worker disabled, this node will not lease jobs");
+            return;
+        }
+        running = true;
+        for (QueueWorker queueWorker : queueWorkers.values()) {
+            if (queueWorker.config.isEnabled()) {
+                queueWorker.start();
+            } else {
+                log.info("Queue {} disabled on this node", queueWorker.name);
             }
-        } catch (Exception e) {
-            log.error("[traceId:{}] Error in worker polling: {}", getTraceId(), e.getMessage(), e);
         }
     }
 
-    private void processJob(Job job) {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        MDC.put("jobId", job.getId().toString());
+    /**
+     * Stops leasing, gives running jobs a bounded time to finish, then hands the rest back
+     * to PENDING so another node picks them up without waiting for the lease to expire.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        List<QueueWorker> started = queueWorkers.values().stream()
+                .filter(queueWorker -> queueWorker.dispatcherThread != null)
+                .toList();
+        for (QueueWorker queueWorker : started) {
+            LockSupport.unpark(queueWorker.dispatcherThread);
+        }
+        for (QueueWorker queueWorker : started) {
+            queueWorker.dispatcherThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
 
-        try {
-            log.info("[traceId:{}] Processing job: {}", traceId, job.getId());
+        // One deadline for the node, shared by every queue
+        long drainTimeoutMs = properties.getWorker().getDrainTimeoutMs();
+        log.info("Draining {} running jobs for up to {}ms", executions.size(), drainTimeoutMs);
+        for (QueueWorker queueWorker : started) {
+            queueWorker.executor.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        boolean drained = true;
+        for (QueueWorker queueWorker : started) {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            drained &= queueWorker.executor.awaitTermination(remaining, TimeUnit.NANOSECONDS);
+        }
+        if (drained) {
+            log.info("Worker drained");
+            return;
+        }
 
-            // Simulate job processing - in real scenario, this would execute actual task
-            boolean success = executeJob(job);
+        releaseUnfinished();
+        for (QueueWorker queueWorker : started) {
+            queueWorker.executor.shutdownNow();
+        }
+    }
 
-            if (success) {
-                jobService.acknowledgeJob(job.getId(), true, null);
-            } else {
-                jobService.acknowledgeJob(job.getId(), false, "Job processing failed");
+    private void releaseUnfinished() {
+        List<UUID> released = new ArrayList<>();
+        for (JobWatchdog.Execution execution : executions.values()) {
+            if (jobWatchdog.release(execution)) {
+                released.add(execution.getJobId());
             }
+        }
+        if (released.isEmpty()) {
+            return;
+        }
+        try {
+            int count = jobService.releaseJobs(released);
+            log.info("Released {} unfinished jobs back to PENDING", count);
         } catch (Exception e) {
-            log.error("[traceId:{}] Exception processing job {}: {}", traceId, job.getId(), e.getMessage(), e);
-            jobService.acknowledgeJob(job.getId(), false, "Exception: " + e.getMessage());
-        } finally {
-            MDC.clear();
+            log.error("Failed to release {} unfinished jobs: {}", released.size(), e.getMessage(), e);
         }
     }
 
-    private boolean executeJob(Job job) {
-        // Simulate job processing with random success/failure for demonstration
-        // In real scenario, this would parse payload and execute actual task
-        try {
-            // Simulate processing time
-            Thread.sleep(100 + (long)(Math.random() * 500));
+    /**
+     * Fails executions whose lease ran out on a node that died or stopped acknowledging, so
+     * they are retried elsewhere. Each queue's timeouts and lease duration decide when a
+     * lease ends; executions this node still tracks are left to its watchdog.
+     */
+    @Scheduled(fixedDelayString = "#{@jobProcessorProperties.worker.leaseReclaimIntervalMs}")
+    public void reclaimExpiredLeases() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (QueueWorker queueWorker : queueWorkers.values()) {
+            JobProcessorProperties.Worker config = queueWorker.config;
+            // No lease ends before the lease duration alone has passed
+            List<Job> candidates = jobService.findLeasedBefore(queueWorker.name,
+                    now.minusSeconds(config.getLeaseDurationSeconds()), RECLAIM_CANDIDATES);
+            for (Job job : candidates) {
+                Duration lease = config.leaseFor(job);
+                if (executions.containsKey(job.getId()) || !job.isLeaseExpired(lease, now)) {
+                    continue;
+                }
+                try {
+                    if (jobService.reclaimExpiredLease(job.getId(), job.getLeasedAt(),
+                            "Lease expired after " + lease.toMillis() + "ms")) {
+                        log.warn("[traceId:{}] Reclaimed job {} leased at {}", job.getTraceId(), job.getId(),
+                                job.getLeasedAt());
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to reclaim job {}: {}", job.getId(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    public Collection<String> getQueues() {
+        return queueWorkers.keySet();
+    }
+
+    public int getInFlight(String queue) {
+        return queueWorkers.get(queue).inFlight.get();
+    }
+
+    public int getConcurrencyLimit(String queue) {
+        return queueWorkers.get(queue).concurrencyController.getConcurrencyLimit();
+    }
+
+    public long getPollDelayMs(String queue) {
+        return queueWorkers.get(queue).concurrencyController.getPollDelayMs();
+    }
+
+    public long getEmptyPolls(String queue) {
+        return queueWorkers.get(queue).emptyPolls.sum();
+    }
+
+    public long getExecutedBatches(String queue) {
+        return queueWorkers.get(queue).executedBatches.sum();
+    }
+
+    public long getBatchedJobs(String queue) {
+        return queueWorkers.get(queue).batchedJobs.sum();
+    }
+
+    private final class QueueWorker {
+        private final String name;
+        private final JobProcessorProperties.Worker config;
+        private final AdaptiveConcurrencyController concurrencyController;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder emptyPolls = new LongAdder();
+        private final LongAdder executedBatches = new LongAdder();
+        private final LongAdder batchedJobs = new LongAdder();
+
+        private Thread dispatcherThread;
+        private ExecutorService executor;
+
+        private QueueWorker(String name, JobProcessorProperties.Worker config) {
+            this.name = name;
+            this.config = config;
+            this.concurrencyController = new AdaptiveConcurrencyController(config);
+        }
+
+        private void start() {
+            executor = Executors.newCachedThreadPool(workerThreadFactory());
+            dispatcherThread = new Thread(this::dispatchLoop, "job-dispatcher-" + name);
+            dispatcherThread.setDaemon(true);
+            dispatcherThread.start();
+        }
 
-            // 80% success rate for demonstration
-            boolean success = Math.random() > 0.2;
+        private void dispatchLoop() {
+            while (running) {
+                if (inFlight.get() >= concurrencyController.getConcurrencyLimit()) {
+                    // Woken by a finishing job; the timeout guards against a missed unpark
+                    concurrencyController.markSaturated();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(config.getPollIntervalMs()));
+                    continue;
+                }
 
-            if (!success && job.getRetryCount() < job.getMaxRetries()) {
-                log.warn("[traceId:{}] Job processing failed, will retry: {}",
-                        MDC.get("traceId"), job.getId());
+                Job job = null;
+                try {
+                    job = jobService.leaseJob(name);
+                } catch (Exception e) {
+                    log.error("[traceId:{}] Error in worker polling: {}", TraceContext.current(), e.getMessage(), e);
+                }
+
+                long delayMs = concurrencyController.onLeaseAttempt(job != null);
+                if (job == null) {
+                    emptyPolls.increment();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(delayMs));
+                    continue;
+                }
+
+                startupTracker.onJobLeased();
+                Job leased = job;
+                inFlight.incrementAndGet();
+                // A batch takes one slot: it is one handler call on one thread
+                if (jobHandlerRegistry.handlerFor(job.getJobType()) instanceof BatchJobHandler batchHandler
+                        && batchHandler.maxBatchSize() > 1) {
+                    executor.execute(() -> runBatch(leased, batchHandler));
+                } else {
+                    executor.execute(() -> runExecution(leased));
+                }
             }
+        }
 
-            return success;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
+        private void runExecution(Job job) {
+            JobWatchdog.Execution execution = jobWatchdog.register(job, timeoutFor(job), this::onTimeout);
+            executions.put(job.getId(), execution);
+            boolean ownsSlot = true;
+            try {
+                ownsSlot = processJob(job, execution);
+            } finally {
+                executions.remove(job.getId());
+                if (ownsSlot) {
+                    releaseSlot();
+                }
+            }
         }
-    }
 
-    private String getTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        /**
+         * Returns false if the watchdog timed the job out first, in which case the watchdog
+         * has already acknowledged it and returned its slot. A job released during shutdown
+         * is not acknowledged either; the slot no longer matters then.
+         */
+        private boolean processJob(Job job, JobWatchdog.Execution execution) {
+            String traceId = job.getTraceId() != null ? job.getTraceId() : TraceContext.newTraceId();
+            MDC.put(TraceContext.TRACE_ID, traceId);
+            MDC.put(TraceContext.JOB_ID, job.getId().toString());
+
+            long startNanos = System.nanoTime();
+            try {
+                log.info("[traceId:{}] Processing job: {}", traceId, job.getId());
+
+                long executeStartMillis = clock.millis();
+                JobExecuteEvent event = new JobExecuteEvent();
+                event.begin();
+                JobOutcome outcome;
+                try {
+                    outcome = jobHandlerRegistry.handlerFor(job.getJobType()).handle(job);
+                } catch (Exception e) {
+                    log.error("[traceId:{}] Exception processing job {}: {}", traceId, job.getId(), e.getMessage(), e);
+                    outcome = JobOutcome.failed("Exception: " + e.getMessage());
+                }
+                event.end();
+                if (event.shouldCommit()) {
+                    event.jobId = job.getId().toString();
+                    event.tenantId = job.getTenantId();
+                    event.jobType = job.getJobType();
+                    event.attempt = job.getRetryCount() + 1;
+                    event.success = outcome.success();
+                    event.resultBytes = outcome.result() != null ? outcome.result().length : 0;
+                    event.commit();
+                }
+                spanRecorder.recordSince(traceId, job.getId(), TraceSpan.Stage.EXECUTING,
+                        executeStartMillis, startNanos);
+
+                if (!jobWatchdog.complete(execution)) {
+                    log.warn("[traceId:{}] Job {} returned after it timed out or was released, discarding result",
+                            traceId, job.getId());
+                    return false;
+                }
+
+                boolean success = outcome.success();
+                String errorMessage = outcome.errorMessage();
+                ResultStore.Location result = null;
+                if (success && outcome.result() != null) {
+                    try {
+                        result = resultStore.append(outcome.result());
+                    } catch (Exception e) {
+                        log.error("[traceId:{}] Failed to store result of job {}: {}", traceId, job.getId(), e.getMessage(), e);
+                        success = false;
+                        errorMessage = "Failed to store result: " + e.getMessage();
+                    }
+                }
+
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                concurrencyController.recordExecution(durationMs, success);
+                workloadCaptureService.recordExecution(job.getId(), durationMs, success);
+                try {
+                    jobService.acknowledgeJob(job.getId(), success, errorMessage, result);
+                } catch (Exception e) {
+                    log.error("[traceId:{}] Failed to acknowledge job {}: {}", traceId, job.getId(), e.getMessage(), e);
+                }
+                return true;
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        private void runBatch(Job first, BatchJobHandler handler) {
+            List<Job> batch = collectBatch(first, handler);
+            // The slot goes back once: when the batch returns, or at its first timeout if it hangs
+            AtomicBoolean slotReleased = new AtomicBoolean();
+            List<JobWatchdog.Execution> batchExecutions = new ArrayList<>(batch.size());
+            for (Job job : batch) {
+                JobWatchdog.Execution execution = jobWatchdog.register(job, timeoutFor(job),
+                        timedOut -> onBatchTimeout(timedOut, slotReleased));
+                executions.put(job.getId(), execution);
+                batchExecutions.add(execution);
+            }
+            try {
+                processBatch(batch, batchExecutions, handler);
+            } finally {
+                for (Job job : batch) {
+                    executions.remove(job.getId());
+                }
+                if (slotReleased.compareAndSet(false, true)) {
+                    releaseSlot();
+                }
+            }
+        }
+
+        /**
+         * Leases compatible jobs to join {@code first} until the batch is full or the handler's
+         * linger time runs out.
+         */
+        private List<Job> collectBatch(Job first, BatchJobHandler handler) {
+            int maxBatchSize = handler.maxBatchSize();
+            List<Job> batch = new ArrayList<>(maxBatchSize);
+            batch.add(first);
+
+            long lingerNanos = TimeUnit.MILLISECONDS.toNanos(handler.maxLingerMs());
+            long deadline = System.nanoTime() + lingerNanos;
+            long pollNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), lingerNanos / 4);
+            while (running && batch.size() < maxBatchSize) {
+                try {
+                    batch.addAll(jobService.leaseBatch(first, maxBatchSize - batch.size()));
+                } catch (Exception e) {
+                    log.error("[traceId:{}] Failed to lease jobs to batch with {}: {}",
+                            first.getTraceId(), first.getId(), e.getMessage(), e);
+                    break;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= maxBatchSize || remaining <= 0) {
+                    break;
+                }
+                LockSupport.parkNanos(Math.min(remaining, pollNanos));
+            }
+            return batch;
+        }
+
+        private void processBatch(List<Job> batch, List<JobWatchdog.Execution> batchExecutions,
+                                  BatchJobHandler handler) {
+            String type = batch.get(0).getJobType();
+            log.info("Processing batch of {} {} jobs for tenant {}", batch.size(), type, batch.get(0).getTenantId());
+
+            long startNanos = System.nanoTime();
+            long executeStartMillis = clock.millis();
+            // One event per job, each spanning the shared handler call
+            JobExecuteEvent[] events = new JobExecuteEvent[batch.size()];
+            for (int i = 0; i < events.length; i++) {
+                events[i] = new JobExecuteEvent();
+                events[i].begin();
+            }
+            List<JobOutcome> outcomes;
+            try {
+                outcomes = handler.handleBatch(List.copyOf(batch));
+                if (outcomes == null || outcomes.size() != batch.size()) {
+                    throw new IllegalStateException("Batch handler returned "
+                            + (outcomes == null ? 0 : outcomes.size()) + " outcomes for " + batch.size() + " jobs");
+                }
+            } catch (Exception e) {
+                log.error("Exception processing batch of {} {} jobs: {}", batch.size(), type, e.getMessage(), e);
+                JobOutcome failed = JobOutcome.failed("Exception: " + e.getMessage());
+                outcomes = batch.stream().map(job -> failed).toList();
+            }
+            executedBatches.increment();
+            batchedJobs.add(batch.size());
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            List<JobAcknowledgement> acknowledgements = new ArrayList<>(batch.size());
+            boolean anySucceeded = false;
+            for (int i = 0; i < batch.size(); i++) {
+                Job job = batch.get(i);
+                JobOutcome outcome = outcomes.get(i);
+                recordExecuteEvent(events[i], job, outcome);
+                spanRecorder.recordSince(job.getTraceId(), job.getId(), TraceSpan.Stage.EXECUTING,
+                        executeStartMillis, startNanos);
+                if (!jobWatchdog.complete(batchExecutions.get(i))) {
+                    log.warn("[traceId:{}] Job {} returned after it timed out or was released, discarding result",
+                            job.getTraceId(), job.getId());
+                    continue;
+                }
+                JobAcknowledgement acknowledgement = toAcknowledgement(job, outcome);
+                acknowledgements.add(acknowledgement);
+                anySucceeded |= outcome.success();
+                workloadCaptureService.recordExecution(job.getId(), durationMs, acknowledgement.success());
+            }
+
+            // One sample per batch: the controller sizes concurrency by handler calls
+            concurrencyController.recordExecution(durationMs, anySucceeded);
+            if (acknowledgements.isEmpty()) {
+                return;
+            }
+            try {
+                jobService.acknowledgeBatch(acknowledgements);
+            } catch (Exception e) {
+                log.error("Failed to acknowledge batch of {} {} jobs: {}", acknowledgements.size(), type, e.getMessage(), e);
+            }
+        }
+
+        private JobAcknowledgement toAcknowledgement(Job job, JobOutcome outcome) {
+            if (!outcome.success() || outcome.result() == null) {
+                return new JobAcknowledgement(job.getId(), outcome.success(), outcome.errorMessage(), null);
+            }
+            try {
+                return new JobAcknowledgement(job.getId(), true, null, resultStore.append(outcome.result()));
+            } catch (Exception e) {
+                log.error("[traceId:{}] Failed to store result of job {}: {}", job.getTraceId(), job.getId(), e.getMessage(), e);
+                return new JobAcknowledgement(job.getId(), false, "Failed to store result: " + e.getMessage(), null);
+            }
+        }
+
+        private void recordExecuteEvent(JobExecuteEvent event, Job job, JobOutcome outcome) {
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.jobId = job.getId().toString();
+            event.tenantId = job.getTenantId();
+            event.jobType = job.getJobType();
+            event.attempt = job.getRetryCount() + 1;
+            event.success = outcome.success();
+            event.resultBytes = outcome.result() != null ? outcome.result().length : 0;
+            event.commit();
+        }
+
+        private void onBatchTimeout(JobWatchdog.Execution execution, AtomicBoolean slotReleased) {
+            workloadCaptureService.recordExecution(execution.getJobId(), execution.getTimeoutMs(), false);
+            try {
+                jobService.acknowledgeJob(execution.getJobId(), false,
+                        "Timed out after " + execution.getTimeoutMs() + "ms");
+            } finally {
+                if (slotReleased.compareAndSet(false, true)) {
+                    concurrencyController.recordExecution(execution.getTimeoutMs(), false);
+                    releaseSlot();
+                }
+            }
+        }
+
+        private void onTimeout(JobWatchdog.Execution execution) {
+            workloadCaptureService.recordExecution(execution.getJobId(), execution.getTimeoutMs(), false);
+            try {
+                jobService.acknowledgeJob(execution.getJobId(), false,
+                        "Timed out after " + execution.getTimeoutMs() + "ms");
+            } finally {
+                concurrencyController.recordExecution(execution.getTimeoutMs(), false);
+                releaseSlot();
+            }
+        }
+
+        private void releaseSlot() {
+            inFlight.decrementAndGet();
+            LockSupport.unpark(dispatcherThread);
+        }
+
+        private long timeoutFor(Job job) {
+            return config.timeoutMsFor(job);
+        }
+
+        private ThreadFactory workerThreadFactory() {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "job-worker-" + name + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
     }
 }
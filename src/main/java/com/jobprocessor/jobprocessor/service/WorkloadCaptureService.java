@@ -0,0 +1,198 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.replay.WorkloadEvent;
+import com.jobprocessor.jobprocessor.replay.WorkloadTraceWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records accepted submissions and execution outcomes to a workload trace that the
+ * {@code replay} profile can play back. Callers only enqueue; a single writer thread
+ * encodes and appends, and events are dropped when it falls behind.
+ */
+@Service
+@Slf4j
+public class WorkloadCaptureService {
+
+    private final JobProcessorProperties.Capture config;
+    private final Clock clock;
+    private final BlockingQueue<Captured> buffer;
+
+    private final LongAdder capturedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+
+    private volatile boolean running;
+    private long startMillis;
+    private Thread writerThread;
+    private WorkloadTraceWriter writer;
+
+    public WorkloadCaptureService(JobProcessorProperties properties, Clock clock) {
+        this.config = properties.getCapture();
+        this.clock = clock;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, config.getBufferCapacity()));
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Path file = Paths.get(config.getFile());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        startMillis = clock.millis();
+        writer = new WorkloadTraceWriter(Files.newOutputStream(file), startMillis);
+        running = true;
+        writerThread = new Thread(this::runWriter, "workload-capture-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Capturing workload to {}", file);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Records a newly created job once the transaction creating it commits, so rolled-back
+     * inserts are never captured.
+     */
+    public void recordSubmitAfterCommit(Job job) {
+        if (running) {
+            AfterCommit.run(() -> recordSubmit(job));
+        }
+    }
+
+    void recordSubmit(Job job) {
+        if (!running) {
+            return;
+        }
+        // Stamped with the creation time, not the commit, to keep the original spacing
+        long submittedMillis = job.getCreatedAt() != null
+                ? job.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli()
+                : clock.millis();
+        boolean idempotencyKey = job.getIdempotencyKey() != null && !job.getIdempotencyKey().isBlank();
+        offer(new Submitted(job.getId(), new WorkloadEvent.Submit(submittedMillis - startMillis, job.getTenantId(),
+                job.getJobType(), job.getQueue(), job.getPayload() != null ? job.getPayload().length() : 0,
+                idempotencyKey, job.getPriority())));
+    }
+
+    public void recordExecution(UUID jobId, long durationMs, boolean success) {
+        if (!running) {
+            return;
+        }
+        offer(new Executed(jobId, clock.millis() - startMillis, durationMs, success));
+    }
+
+    public long getCapturedEvents() {
+        return capturedEvents.sum();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    private void offer(Captured captured) {
+        if (!buffer.offer(captured)) {
+            droppedEvents.increment();
+        }
+    }
+
+    private void runWriter() {
+        // Only the writer touches this; the oldest submissions stop being linkable first
+        Map<UUID, Long> submitSequences = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                return size() > config.getMaxTrackedJobs();
+            }
+        };
+        // A worker can lease a job before its submit is recorded, so its executions wait here
+        Map<UUID, List<Executed>> unmatchedExecutions = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, List<Executed>> eldest) {
+                return size() > config.getMaxTrackedJobs();
+            }
+        };
+        long nextSequence = 0;
+
+        try (WorkloadTraceWriter trace = writer) {
+            while (running || !buffer.isEmpty()) {
+                Captured captured = buffer.poll(1, TimeUnit.SECONDS);
+                if (captured == null) {
+                    trace.flush();
+                    continue;
+                }
+                switch (captured) {
+                    case Submitted submitted -> {
+                        long sequence = nextSequence++;
+                        submitSequences.put(submitted.jobId(), sequence);
+                        trace.write(submitted.event());
+                        capturedEvents.increment();
+                        List<Executed> pending = unmatchedExecutions.remove(submitted.jobId());
+                        if (pending != null) {
+                            for (Executed executed : pending) {
+                                writeExecution(trace, executed, sequence);
+                            }
+                        }
+                    }
+                    case Executed executed -> {
+                        Long sequence = submitSequences.get(executed.jobId());
+                        if (sequence != null) {
+                            writeExecution(trace, executed, sequence);
+                        } else {
+                            // Never matched, and eventually evicted, if the job was submitted before the capture started
+                            unmatchedExecutions.computeIfAbsent(executed.jobId(), id -> new ArrayList<>(1))
+                                    .add(executed);
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Workload capture stopped: {}", e.getMessage(), e);
+            running = false;
+        }
+        log.info("Workload capture closed after {} events ({} dropped)", capturedEvents.sum(), droppedEvents.sum());
+    }
+
+    private void writeExecution(WorkloadTraceWriter trace, Executed executed, long sequence) throws IOException {
+        trace.write(new WorkloadEvent.Execution(executed.offsetMs(), sequence, executed.durationMs(),
+                executed.success()));
+        capturedEvents.increment();
+    }
+
+    private sealed interface Captured {
+    }
+
+    private record Submitted(UUID jobId, WorkloadEvent.Submit event) implements Captured {
+    }
+
+    private record Executed(UUID jobId, long offsetMs, long durationMs, boolean success) implements Captured {
+    }
+}
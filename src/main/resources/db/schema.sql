@@ -0,0 +1,98 @@
+-- Schema for the prod profile, which validates instead of updating it. Every statement is
+-- idempotent: a fresh database gets the full tables, and one created by an earlier version
+-- gets the columns, tables and indexes added since.
+
+create table if not exists jobs (
+    id uuid not null,
+    trace_id varchar(16),
+    tenant_id varchar(255) not null,
+    queue varchar(100) default 'default' not null,
+    job_type varchar(100),
+    partition_id integer default 0 not null,
+    priority integer default 0 not null,
+    payload TEXT,
+    payload_hash varchar(64),
+    status enum ('COMPLETED','DLQ','FAILED','PENDING','RUNNING') not null,
+    retry_count integer not null,
+    max_retries integer not null,
+    timeout_ms bigint,
+    idempotency_key varchar(255) unique,
+    leader_job_id uuid,
+    error_message varchar(255),
+    result_store_id varchar(36),
+    result_segment bigint,
+    result_offset bigint,
+    result_length integer,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    leased_at timestamp(6),
+    started_at timestamp(6),
+    completed_at timestamp(6),
+    primary key (id)
+);
+
+alter table jobs add column if not exists trace_id varchar(16);
+alter table jobs add column if not exists queue varchar(100) default 'default' not null;
+alter table jobs add column if not exists job_type varchar(100);
+alter table jobs add column if not exists partition_id integer default 0 not null;
+alter table jobs add column if not exists priority integer default 0 not null;
+alter table jobs add column if not exists payload_hash varchar(64);
+alter table jobs add column if not exists timeout_ms bigint;
+alter table jobs add column if not exists leader_job_id uuid;
+alter table jobs add column if not exists result_store_id varchar(36);
+alter table jobs add column if not exists result_segment bigint;
+alter table jobs add column if not exists result_offset bigint;
+alter table jobs add column if not exists result_length integer;
+
+create table if not exists ready_queue (
+    job_id uuid not null,
+    queue varchar(100) default 'default' not null,
+    tenant_id varchar(255) not null,
+    job_type varchar(100),
+    partition_id integer not null,
+    priority integer not null,
+    due_at timestamp(6) not null,
+    primary key (job_id)
+);
+
+create table if not exists job_changes (
+    id bigint generated by default as identity,
+    job_id uuid not null,
+    tenant_id varchar(255) not null,
+    job_type varchar(100),
+    status enum ('COMPLETED','DLQ','FAILED','PENDING','RUNNING') not null,
+    retry_count integer not null,
+    error_message varchar(255),
+    occurred_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table if not exists recurring_jobs (
+    id varchar(100) not null,
+    tenant_id varchar(255) not null,
+    queue varchar(100),
+    job_type varchar(100),
+    cron varchar(100) not null,
+    payload TEXT not null,
+    priority integer,
+    timeout_ms bigint,
+    jitter_ms bigint not null,
+    enabled boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index if not exists idx_status on jobs (status);
+create index if not exists idx_tenant_id on jobs (tenant_id);
+create index if not exists idx_idempotency_key on jobs (idempotency_key);
+create index if not exists idx_created_at on jobs (created_at);
+create index if not exists idx_completed_at on jobs (completed_at);
+create index if not exists idx_tenant_payload_hash on jobs (tenant_id, payload_hash);
+create index if not exists idx_leader_job_id on jobs (leader_job_id);
+create index if not exists idx_partition_id on jobs (partition_id);
+create index if not exists idx_result_segment on jobs (result_store_id, result_segment);
+create index if not exists idx_ready_queue_partition_priority_due on ready_queue (queue, partition_id, priority, due_at);
+create index if not exists idx_ready_tenant_type_due on ready_queue (tenant_id, job_type, due_at);
+create index if not exists idx_job_changes_occurred_at on job_changes (occurred_at);
+create index if not exists idx_recurring_tenant_id on recurring_jobs (tenant_id);
@@ -0,0 +1,196 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.dto.JobResponse;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.service.JobAdmissionPipeline;
+import com.jobprocessor.jobprocessor.service.JobService;
+import com.jobprocessor.jobprocessor.service.ResultStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class JobControllerTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobAdmissionPipeline jobAdmissionPipeline;
+
+    @Mock
+    private ResultStore resultStore;
+
+    @InjectMocks
+    private JobController jobController;
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @Test
+    void testGetJobResult_Range_ReturnsPartialContent() throws IOException {
+        // Given
+        ResultStore.Location location = storedResult(100);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResult(jobId, "bytes=10-19");
+
+        // Then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals(10, response.getHeaders().getContentLength());
+        assertEquals("bytes 10-19/100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        response.getBody().writeTo(new ByteArrayOutputStream());
+        verify(resultStore).transferTo(eq(location), eq(10L), eq(10L), any());
+    }
+
+    @Test
+    void testGetJobResult_RangeStartsPastEnd_ReturnsNotSatisfiable() {
+        // Given
+        storedResult(100);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResult(jobId, "bytes=500-");
+
+        // Then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void testGetJobResult_RangeOfEmptyResult_ReturnsNotSatisfiable() {
+        // Given
+        storedResult(0);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResult(jobId, "bytes=0-");
+
+        // Then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */0", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void testGetJobResult_EmptyResultWithoutRange_ReturnsEmptyBody() {
+        // Given
+        storedResult(0);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResult(jobId, null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, response.getHeaders().getContentLength());
+    }
+
+    @Test
+    void testGetJobResult_HeldByAnotherNode_IsRefused() throws IOException {
+        // Given
+        ResultStore.Location location = new ResultStore.Location("another-node", 1, 0, 100);
+        when(jobService.getJobResult(jobId)).thenReturn(location);
+        when(resultStore.isLocal(location)).thenReturn(false);
+
+        // When & Then
+        assertThrows(JobService.ResultNotFoundException.class, () -> jobController.getJobResult(jobId, null));
+        verify(resultStore, never()).transferTo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void testGetJobStatus_AcceptCbor_AnswersInCbor() throws Exception {
+        // Given
+        JobResponse job = jobResponse();
+        when(jobService.getJobStatus(jobId)).thenReturn(job);
+
+        // When
+        MvcResult result = mockMvc().perform(get("/api/jobs/{jobId}", jobId).accept(CBOR))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertEquals(CBOR.toString(), result.getResponse().getContentType());
+        assertEquals(job, CBORMapper.builder().build()
+                .readValue(result.getResponse().getContentAsByteArray(), JobResponse.class));
+    }
+
+    @Test
+    void testGetJobStatus_AcceptSmile_AnswersInSmile() throws Exception {
+        // Given
+        JobResponse job = jobResponse();
+        when(jobService.getJobStatus(jobId)).thenReturn(job);
+
+        // When
+        MvcResult result = mockMvc().perform(get("/api/jobs/{jobId}", jobId).accept(SMILE))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertEquals(SMILE.toString(), result.getResponse().getContentType());
+        assertEquals(job, SmileMapper.builder().build()
+                .readValue(result.getResponse().getContentAsByteArray(), JobResponse.class));
+    }
+
+    @Test
+    void testGetJobStatus_NoAccept_AnswersInJson() throws Exception {
+        // Given
+        when(jobService.getJobStatus(jobId)).thenReturn(jobResponse());
+
+        // When & Then
+        mockMvc().perform(get("/api/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private MockMvc mockMvc() {
+        return MockMvcBuilders.standaloneSetup(jobController).build();
+    }
+
+    private JobResponse jobResponse() {
+        return JobResponse.builder()
+                .id(jobId)
+                .tenantId("tenant-a")
+                .type("default")
+                .status(JobStatus.COMPLETED)
+                .payload("{\"task\": \"report\"}")
+                .retryCount(0)
+                .maxRetries(3)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 12, 1))
+                .build();
+    }
+
+    private ResultStore.Location storedResult(int length) {
+        ResultStore.Location location = new ResultStore.Location("this-node", 1, 0, length);
+        when(jobService.getJobResult(jobId)).thenReturn(location);
+        when(resultStore.isLocal(location)).thenReturn(true);
+        when(resultStore.exists(location)).thenReturn(true);
+        return location;
+    }
+}
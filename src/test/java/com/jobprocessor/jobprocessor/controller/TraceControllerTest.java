@@ -0,0 +1,66 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.dto.JobTraceResponse;
+import com.jobprocessor.jobprocessor.service.SpanRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TraceControllerTest {
+
+    @Mock
+    private SpanRecorder spanRecorder;
+
+    @InjectMocks
+    private TraceController traceController;
+
+    @Test
+    void testGetSlowestJobs_ClampsLimit() {
+        // Given
+        when(spanRecorder.slowest(anyInt())).thenReturn(List.of());
+
+        // When
+        traceController.getSlowestJobs(10_000);
+        traceController.getSlowestJobs(0);
+
+        // Then
+        verify(spanRecorder).slowest(500);
+        verify(spanRecorder).slowest(1);
+    }
+
+    @Test
+    void testGetTrace_Found() {
+        // Given
+        JobTraceResponse trace = JobTraceResponse.builder().traceId("trace-a").build();
+        when(spanRecorder.findByTraceId("trace-a")).thenReturn(trace);
+
+        // When
+        ResponseEntity<JobTraceResponse> response = traceController.getTrace("trace-a");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(trace, response.getBody());
+    }
+
+    @Test
+    void testGetTrace_NotFound() {
+        // Given
+        when(spanRecorder.findByTraceId("trace-unknown")).thenReturn(null);
+
+        // When
+        ResponseEntity<JobTraceResponse> response = traceController.getTrace("trace-unknown");
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
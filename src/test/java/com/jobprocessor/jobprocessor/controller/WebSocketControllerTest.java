@@ -0,0 +1,64 @@
+package com.jobprocessor.jobprocessor.controller;
+
+import com.jobprocessor.jobprocessor.dto.DashboardStats;
+import com.jobprocessor.jobprocessor.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketControllerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private JobService jobService;
+
+    @InjectMocks
+    private WebSocketController webSocketController;
+
+    @Test
+    void testBroadcastStats_Unchanged_SentOnce() {
+        // Given
+        when(jobService.getDashboardStats()).thenReturn(stats(3), stats(3));
+
+        // When
+        webSocketController.broadcastStats();
+        webSocketController.broadcastStats();
+
+        // Then
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/stats"), any(Object.class));
+    }
+
+    @Test
+    void testBroadcastStats_Changed_SentAgain() {
+        // Given
+        when(jobService.getDashboardStats()).thenReturn(stats(3), stats(4));
+
+        // When
+        webSocketController.broadcastStats();
+        webSocketController.broadcastStats();
+
+        // Then
+        verify(messagingTemplate).convertAndSend("/topic/stats", (Object) stats(3));
+        verify(messagingTemplate).convertAndSend("/topic/stats", (Object) stats(4));
+    }
+
+    private DashboardStats stats(long pending) {
+        return DashboardStats.builder()
+                .pendingJobs(pending)
+                .totalJobs(pending)
+                .circuitBreakers(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.List;
+
+/**
+ * Measures payload size and encode time of a job listing in each negotiable format.
+ * Report only: timings depend on the machine and the JIT, so they are logged for
+ * comparison rather than asserted. Runs with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@Slf4j
+class JobResponseEncodingBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    @Test
+    void testEncodeJobListing_SizeAndTimePerFormat() {
+        // Given
+        List<JobResponse> jobs = JobResponseEncodingTest.sampleJobs();
+
+        // When & Then
+        measure("json", JsonMapper.builder().build(), jobs);
+        measure("cbor", CBORMapper.builder().build(), jobs);
+        measure("smile", SmileMapper.builder().build(), jobs);
+    }
+
+    private static void measure(String format, ObjectMapper mapper, List<JobResponse> jobs) {
+        int size = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            size = mapper.writeValueAsBytes(jobs).length;
+        }
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            size = mapper.writeValueAsBytes(jobs).length;
+        }
+        long avgMicros = (System.nanoTime() - startNanos) / MEASURED_ROUNDS / 1000;
+        log.info("Job listing as {}: {} bytes, {} us/encode over {} jobs", format, size, avgMicros, jobs.size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobprocessor.jobprocessor.dto;
+
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the binary formats a job listing can be negotiated into round-trip and
+ * come out smaller than JSON.
+ */
+class JobResponseEncodingTest {
+
+    private static final int JOBS = 500;
+
+    @Test
+    void testBinaryEncodings_SmallerThanJsonAndRoundTrip() {
+        // Given
+        List<JobResponse> jobs = sampleJobs();
+        ObjectMapper json = JsonMapper.builder().build();
+        ObjectMapper cbor = CBORMapper.builder().build();
+        ObjectMapper smile = SmileMapper.builder().build();
+
+        // When
+        int jsonBytes = json.writeValueAsBytes(jobs).length;
+        int cborBytes = cbor.writeValueAsBytes(jobs).length;
+        int smileBytes = smile.writeValueAsBytes(jobs).length;
+
+        // Then
+        assertTrue(cborBytes < jsonBytes, "CBOR should be smaller than JSON");
+        assertTrue(smileBytes < jsonBytes, "Smile should be smaller than JSON");
+        assertEquals(jobs, cbor.readValue(cbor.writeValueAsBytes(jobs), new TypeReference<List<JobResponse>>() {}));
+        assertEquals(jobs, smile.readValue(smile.writeValueAsBytes(jobs), new TypeReference<List<JobResponse>>() {}));
+    }
+
+    static List<JobResponse> sampleJobs() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<JobResponse> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            jobs.add(JobResponse.builder()
+                    .id(UUID.randomUUID())
+                    .traceId(String.format("%016x", i))
+                    .tenantId("tenant-" + (i % 10))
+                    .type("default")
+                    .status(JobStatus.values()[i % JobStatus.values().length])
+                    .priority(0)
+                    .payload("{\"task\": \"report\", \"sequence\": " + i + "}")
+                    .retryCount(i % 3)
+                    .maxRetries(3)
+                    .createdAt(now.plusSeconds(i))
+                    .startedAt(now.plusSeconds(i + 1))
+                    .updatedAt(now.plusSeconds(i + 2))
+                    .build());
+        }
+        return jobs;
+    }
+}
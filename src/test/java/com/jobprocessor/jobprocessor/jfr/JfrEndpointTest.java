@@ -0,0 +1,64 @@
+package com.jobprocessor.jobprocessor.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEndpointTest {
+
+    private final JfrEndpoint jfrEndpoint = new JfrEndpoint();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jfrEndpoint.close();
+    }
+
+    @Test
+    void testStartStopDownload_ServesRecording() throws Exception {
+        // Given
+        Map<String, Object> started = jfrEndpoint.start(null, null);
+        long id = (long) started.get("id");
+        new JobSubmitEvent().commit();
+
+        // When
+        Map<String, Object> stopped = jfrEndpoint.stop();
+        Resource download = jfrEndpoint.download(id);
+
+        // Then
+        assertEquals("STOPPED", stopped.get("state").toString());
+        assertNotNull(download);
+        assertTrue(download.contentLength() > 0);
+        assertNull(jfrEndpoint.download(id + 1));
+    }
+
+    @Test
+    void testDownloadWhileRunning_KeepsOnlyLatestSnapshot() throws Exception {
+        // Given
+        long id = (long) jfrEndpoint.start(null, 60).get("id");
+
+        // When
+        Path first = jfrEndpoint.download(id).getFile().toPath();
+        Path second = jfrEndpoint.download(id).getFile().toPath();
+
+        // Then
+        assertNotEquals(first, second);
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    @Test
+    void testStart_AlreadyRunning_Throws() throws Exception {
+        // Given
+        jfrEndpoint.start(null, null);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> jfrEndpoint.start(null, null));
+    }
+}
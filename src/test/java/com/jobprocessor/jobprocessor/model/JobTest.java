@@ -0,0 +1,41 @@
+package com.jobprocessor.jobprocessor.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final LocalDateTime LEASED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    void testIsLeaseExpired_WithinLease() {
+        // Given
+        Job job = Job.builder().leasedAt(LEASED_AT).build();
+
+        // When/Then
+        assertFalse(job.isLeaseExpired(LEASE, LEASED_AT.plusSeconds(30)));
+    }
+
+    @Test
+    void testIsLeaseExpired_PastLease() {
+        // Given
+        Job job = Job.builder().leasedAt(LEASED_AT).build();
+
+        // When/Then
+        assertTrue(job.isLeaseExpired(LEASE, LEASED_AT.plusSeconds(31)));
+    }
+
+    @Test
+    void testIsLeaseExpired_NeverLeased() {
+        // Given
+        Job job = Job.builder().build();
+
+        // When/Then
+        assertFalse(job.isLeaseExpired(LEASE, LEASED_AT.plusDays(1)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobprocessor.jobprocessor.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadTraceCodecTest {
+
+    @Test
+    void testRoundTrip_PreservesEveryEvent() throws IOException {
+        // Given
+        List<WorkloadEvent> events = List.of(
+                new WorkloadEvent.Submit(0, "tenant-a", "email", "default", 120, false, 0),
+                new WorkloadEvent.Submit(5, "tenant-b", "email", "bulk", 4096, true, -2),
+                new WorkloadEvent.Execution(250, 0, 180, false),
+                // Written by another thread slightly behind the previous event
+                new WorkloadEvent.Execution(248, 1, 3_600_000, true),
+                new WorkloadEvent.Submit(86_400_000L, "tenant-a", "report", "default", 0, false, 10),
+                new WorkloadEvent.Execution(86_400_050L, 0, 90, true));
+
+        // When
+        byte[] trace = write(1_735_732_800_000L, events);
+        List<WorkloadEvent> read = new ArrayList<>();
+        long startEpochMillis;
+        try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(trace))) {
+            startEpochMillis = reader.getStartEpochMillis();
+            WorkloadEvent event;
+            while ((event = reader.read()) != null) {
+                read.add(event);
+            }
+        }
+
+        // Then
+        assertEquals(1_735_732_800_000L, startEpochMillis);
+        assertEquals(events, read);
+    }
+
+    @Test
+    void testEncoding_IsCompact() throws IOException {
+        // Given
+        List<WorkloadEvent> events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            events.add(new WorkloadEvent.Submit(i * 3L, "tenant-" + (i % 10), "email", "default", 512, i % 2 == 0, 0));
+            events.add(new WorkloadEvent.Execution(i * 3L + 1, i, 40, true));
+        }
+
+        // When
+        byte[] trace = write(0, events);
+
+        // Then
+        // Strings are written once, so a submission costs about ten bytes and an execution about six
+        assertTrue(trace.length < 2000 * 10, "trace was " + trace.length + " bytes");
+    }
+
+    @Test
+    void testTruncatedRecord_FailsWithEof() throws IOException {
+        // Given
+        byte[] trace = write(0, List.of(
+                new WorkloadEvent.Submit(0, "tenant-a", "email", "default", 120, false, 0),
+                new WorkloadEvent.Execution(250, 0, 180, true)));
+        byte[] truncated = Arrays.copyOf(trace, trace.length - 2);
+
+        // When & Then
+        try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(truncated))) {
+            assertInstanceOf(WorkloadEvent.Submit.class, reader.read());
+            assertThrows(EOFException.class, reader::read);
+        }
+    }
+
+    @Test
+    void testReader_RejectsOtherFiles() {
+        assertThrows(IOException.class,
+                () -> new WorkloadTraceReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13})));
+    }
+
+    @Test
+    void testReplayPayload_CarriesSequenceAtCapturedLength() {
+        String payload = ReplayJobHandler.payloadFor(42, 200);
+
+        assertEquals(200, payload.length());
+        assertEquals(42, ReplayJobHandler.sequenceOf(payload));
+        assertEquals(7, ReplayJobHandler.sequenceOf(ReplayJobHandler.payloadFor(7, 0)));
+    }
+
+    private static byte[] write(long startEpochMillis, List<WorkloadEvent> events) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (WorkloadTraceWriter writer = new WorkloadTraceWriter(out, startEpochMillis)) {
+            for (WorkloadEvent event : events) {
+                writer.write(event);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyControllerTest {
+
+    private JobProcessorProperties.Worker workerConfig;
+    private AdaptiveConcurrencyController controller;
+
+    @BeforeEach
+    void setUp() {
+        workerConfig = new JobProcessorProperties.Worker();
+        workerConfig.setPollIntervalMs(100);
+        workerConfig.setMaxPollIntervalMs(1000);
+        workerConfig.setPollBackoffMultiplier(2.0);
+        workerConfig.setMinConcurrency(1);
+        workerConfig.setMaxConcurrency(8);
+        workerConfig.setInitialConcurrency(4);
+        workerConfig.setTargetLatencyMs(500);
+        workerConfig.setMaxErrorRate(0.5);
+        workerConfig.setAdjustmentWindow(10);
+        workerConfig.setConcurrencyDecreaseFactor(0.5);
+
+        controller = new AdaptiveConcurrencyController(workerConfig);
+    }
+
+    @Test
+    void testEmptyLeases_BackOffExponentiallyUpToMax() {
+        assertEquals(100, controller.onLeaseAttempt(false));
+        assertEquals(200, controller.onLeaseAttempt(false));
+        assertEquals(400, controller.onLeaseAttempt(false));
+        assertEquals(800, controller.onLeaseAttempt(false));
+        assertEquals(1000, controller.onLeaseAttempt(false));
+        assertEquals(1000, controller.onLeaseAttempt(false));
+    }
+
+    @Test
+    void testSuccessfulLease_ResetsPollDelay() {
+        controller.onLeaseAttempt(false);
+        controller.onLeaseAttempt(false);
+
+        assertEquals(0, controller.onLeaseAttempt(true));
+        assertEquals(100, controller.getPollDelayMs());
+    }
+
+    @Test
+    void testHealthySaturatedWindow_IncreasesLimitByOne() {
+        controller.markSaturated();
+        recordWindow(100, true);
+
+        assertEquals(5, controller.getConcurrencyLimit());
+    }
+
+    @Test
+    void testHealthyUnsaturatedWindow_KeepsLimit() {
+        recordWindow(100, true);
+
+        assertEquals(4, controller.getConcurrencyLimit());
+    }
+
+    @Test
+    void testSlowWindow_DecreasesLimitMultiplicatively() {
+        controller.markSaturated();
+        recordWindow(900, true);
+
+        assertEquals(2, controller.getConcurrencyLimit());
+    }
+
+    @Test
+    void testFailingWindows_NeverDropBelowMinimum() {
+        for (int i = 0; i < 5; i++) {
+            recordWindow(100, false);
+        }
+
+        assertEquals(1, controller.getConcurrencyLimit());
+    }
+
+    private void recordWindow(long latencyMs, boolean success) {
+        for (int i = 0; i < workerConfig.getAdjustmentWindow(); i++) {
+            controller.recordExecution(latencyMs, success);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import com.jobprocessor.jobprocessor.repository.ReadyJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlServiceTest {
+
+    @Mock
+    private ReadyJobRepository readyJobRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private MutableClock clock;
+    private AdmissionControlService admissionControlService;
+
+    @BeforeEach
+    void setUp() {
+        JobProcessorProperties properties = new JobProcessorProperties();
+        JobProcessorProperties.LoadShedding config = properties.getLoadShedding();
+        config.setGlobalSoftWatermark(10);
+        config.setGlobalHardWatermark(20);
+        config.setTenantHardWatermark(15);
+        config.setMaxRetryAfterSeconds(60);
+
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        admissionControlService = new AdmissionControlService(readyJobRepository, jobRepository, properties, clock);
+    }
+
+    @Test
+    void testBelowWatermarks_Admitted() {
+        // Given
+        admit("tenant-a", 9);
+
+        // When & Then
+        assertDoesNotThrow(() -> admissionControlService.checkAdmission("tenant-a", 0));
+    }
+
+    @Test
+    void testAboveSoftWatermark_ShedsOnlyBelowNormalPriority() {
+        // Given
+        admit("tenant-a", 10);
+
+        // When & Then
+        assertThrows(JobService.OverloadedException.class,
+                () -> admissionControlService.checkAdmission("tenant-b", -1));
+        assertDoesNotThrow(() -> admissionControlService.checkAdmission("tenant-b", 0));
+        assertDoesNotThrow(() -> admissionControlService.checkAdmission("tenant-b", 5));
+        assertEquals(1, admissionControlService.getShedJobs());
+    }
+
+    @Test
+    void testAboveHardWatermark_ShedsEverything() {
+        // Given
+        admit("tenant-a", 10);
+        admit("tenant-b", 10);
+
+        // When & Then
+        assertThrows(JobService.OverloadedException.class,
+                () -> admissionControlService.checkAdmission("tenant-c", 100));
+    }
+
+    @Test
+    void testReconcile_ReplacesLocalDepthWithReadyQueueCounts() {
+        // Given
+        admit("tenant-a", 20);
+        when(readyJobRepository.countGroupedByTenant()).thenReturn(List.<Object[]>of(new Object[]{"tenant-b", 3L}));
+
+        // When
+        admissionControlService.reconcile();
+
+        // Then
+        assertEquals(3, admissionControlService.getPendingDepth());
+        assertDoesNotThrow(() -> admissionControlService.checkAdmission("tenant-a", 0));
+    }
+
+    @Test
+    void testRetryAfter_FromClusterWideDrainRate() {
+        // Given
+        when(readyJobRepository.countGroupedByTenant()).thenReturn(List.of());
+        clock.advance(Duration.ofSeconds(10));
+        // Finished on any node, not only this one
+        when(jobRepository.countFinishedBetween(LocalDateTime.of(2025, 1, 1, 12, 0),
+                LocalDateTime.of(2025, 1, 1, 12, 0, 10))).thenReturn(1000L);
+        admissionControlService.reconcile();
+
+        // When
+        long retryAfter = admissionControlService.retryAfterSeconds(1000);
+
+        // Then
+        assertEquals(100.0, admissionControlService.getDrainRatePerSecond());
+        assertEquals(10, retryAfter);
+    }
+
+    @Test
+    void testRetryAfter_NothingDraining_UsesMaximum() {
+        // Given
+        when(readyJobRepository.countGroupedByTenant()).thenReturn(List.of());
+        clock.advance(Duration.ofSeconds(10));
+        when(jobRepository.countFinishedBetween(any(), any())).thenReturn(0L);
+        admissionControlService.reconcile();
+
+        // When & Then
+        assertEquals(60, admissionControlService.retryAfterSeconds(1000));
+    }
+
+    private void admit(String tenantId, int jobs) {
+        for (int i = 0; i < jobs; i++) {
+            admissionControlService.onAdmitted(tenantId);
+        }
+    }
+}
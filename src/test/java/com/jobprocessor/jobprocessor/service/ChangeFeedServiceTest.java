@@ -0,0 +1,208 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.JobChange;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.repository.JobChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private JobChangeRepository jobChangeRepository;
+
+    private JobProcessorProperties properties;
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobProcessorProperties();
+        properties.getChangeFeed().setGapTimeoutMs(60000);
+        properties.getChangeFeed().setPollIntervalMs(10);
+        properties.getChangeFeed().setRetentionHours(72);
+
+        changeFeedService = new ChangeFeedService(jobChangeRepository, properties,
+                new MutableClock(Instant.parse("2025-01-01T12:00:00Z")));
+        changeFeedService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeedService.stop();
+    }
+
+    @Test
+    void testRecord_WritesJobState() {
+        // Given
+        Job job = Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId("tenant-a")
+                .jobType(Job.DEFAULT_TYPE)
+                .status(JobStatus.COMPLETED)
+                .retryCount(1)
+                .updatedAt(NOW)
+                .build();
+
+        // When
+        changeFeedService.record(job);
+
+        // Then
+        verify(jobChangeRepository).save(argThat((JobChange change) ->
+                change.getJobId().equals(job.getId())
+                        && change.getStatus() == JobStatus.COMPLETED
+                        && change.getOccurredAt().equals(NOW)));
+        assertEquals(1, changeFeedService.getRecordedChanges());
+    }
+
+    @Test
+    void testRecord_Disabled_WritesNothing() {
+        // Given
+        properties.getChangeFeed().setEnabled(false);
+
+        // When
+        changeFeedService.record(Job.builder().id(UUID.randomUUID()).build());
+        changeFeedService.recordJobs(List.of(UUID.randomUUID()), NOW);
+
+        // Then
+        verifyNoInteractions(jobChangeRepository);
+        assertThrows(ChangeFeedService.ChangeFeedDisabledException.class,
+                () -> changeFeedService.subscribe(0L, null));
+    }
+
+    @Test
+    void testSubscribe_ResumesAfterSequence() {
+        // When
+        changeFeedService.subscribe(41L, "tenant-a");
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(41L), any());
+        verify(jobChangeRepository, never()).findLatestId();
+        assertEquals(1, changeFeedService.getSubscribers());
+    }
+
+    @Test
+    void testSubscribe_WithoutPosition_StartsAtCurrentEnd() {
+        // Given
+        when(jobChangeRepository.findLatestId()).thenReturn(500L);
+
+        // When
+        changeFeedService.subscribe(null, null);
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(500L), any());
+    }
+
+    @Test
+    void testSubscribe_BelowOldestRetained_StartsAtOldest() {
+        // Given
+        when(jobChangeRepository.findOldestId()).thenReturn(100L);
+
+        // When
+        changeFeedService.subscribe(0L, null);
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(99L), any());
+    }
+
+    @Test
+    void testPoll_GapAboveStartupSequence_NotHeld() {
+        // Given
+        when(jobChangeRepository.findLatestId()).thenReturn(40L);
+        changeFeedService.readSettledSequence();
+        when(jobChangeRepository.findAfter(eq(40L), any())).thenReturn(List.of(change(73, "tenant-a")));
+
+        // When
+        changeFeedService.subscribe(40L, "tenant-a");
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(73L), any());
+        assertEquals(1, changeFeedService.getDeliveredChanges());
+        assertEquals(0, changeFeedService.getSkippedGaps());
+    }
+
+    @Test
+    void testPoll_HoldsAtGapUntilItCommits() {
+        // Given
+        when(jobChangeRepository.findAfter(eq(40L), any()))
+                .thenReturn(List.of(change(42, "tenant-a")))
+                .thenReturn(List.of(change(41, "tenant-a"), change(42, "tenant-a")));
+
+        // When
+        changeFeedService.subscribe(40L, "tenant-a");
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(42L), any());
+        assertEquals(2, changeFeedService.getDeliveredChanges());
+        assertEquals(0, changeFeedService.getSkippedGaps());
+    }
+
+    @Test
+    void testPoll_SkipsGapOnceTimedOut() {
+        // Given
+        properties.getChangeFeed().setGapTimeoutMs(0);
+        when(jobChangeRepository.findAfter(eq(40L), any())).thenReturn(List.of(change(42, "tenant-a")));
+
+        // When
+        changeFeedService.subscribe(40L, "tenant-a");
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(42L), any());
+        assertEquals(1, changeFeedService.getDeliveredChanges());
+        assertEquals(1, changeFeedService.getSkippedGaps());
+    }
+
+    @Test
+    void testPoll_OtherTenantsChangesAdvanceWithoutDelivery() {
+        // Given
+        when(jobChangeRepository.findAfter(eq(40L), any()))
+                .thenReturn(List.of(change(41, "tenant-b"), change(42, "tenant-a")));
+
+        // When
+        changeFeedService.subscribe(40L, "tenant-a");
+
+        // Then
+        verify(jobChangeRepository, timeout(1000).atLeastOnce()).findAfter(eq(42L), any());
+        assertEquals(1, changeFeedService.getDeliveredChanges());
+        assertEquals(0, changeFeedService.getSkippedGaps());
+    }
+
+    @Test
+    void testPurgeExpiredChanges_UsesRetention() {
+        // When
+        changeFeedService.purgeExpiredChanges();
+
+        // Then
+        verify(jobChangeRepository).deleteOlderThan(NOW.minusHours(72));
+    }
+
+    private static JobChange change(long sequence, String tenantId) {
+        return JobChange.builder()
+                .id(sequence)
+                .jobId(UUID.randomUUID())
+                .tenantId(tenantId)
+                .jobType(Job.DEFAULT_TYPE)
+                .status(JobStatus.PENDING)
+                .retryCount(0)
+                .occurredAt(NOW)
+                .build();
+    }
+}
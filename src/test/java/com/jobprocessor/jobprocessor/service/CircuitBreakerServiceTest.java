@@ -0,0 +1,121 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerServiceTest {
+
+    private MutableClock clock;
+    private CircuitBreakerService circuitBreakerService;
+
+    @BeforeEach
+    void setUp() {
+        JobProcessorProperties properties = new JobProcessorProperties();
+        properties.getCircuitBreaker().setWindowSize(10);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(0.5);
+        properties.getCircuitBreaker().setOpenDurationMs(30000);
+        properties.getCircuitBreaker().setHalfOpenProbes(2);
+
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        circuitBreakerService = new CircuitBreakerService(properties, clock);
+    }
+
+    @Test
+    void testRecordOutcome_FailureRateReached_Opens() {
+        // Given
+        circuitBreakerService.recordOutcome("email", "tenant-a", true);
+        circuitBreakerService.recordOutcome("email", "tenant-a", false);
+        circuitBreakerService.recordOutcome("email", "tenant-a", true);
+
+        // When
+        circuitBreakerService.recordOutcome("email", "tenant-a", false);
+
+        // Then
+        assertEquals(Set.of(CircuitBreakerService.key("email", "tenant-a")), circuitBreakerService.blockedKeys());
+        assertFalse(circuitBreakerService.tryAcquire("email", "tenant-a"));
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-b"));
+        assertTrue(circuitBreakerService.tryAcquire("report", "tenant-a"));
+        assertEquals(1, circuitBreakerService.getOpenedBreakers());
+    }
+
+    @Test
+    void testRecordOutcome_BelowMinimumCalls_StaysClosed() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            circuitBreakerService.recordOutcome("email", "tenant-a", false);
+        }
+
+        // Then
+        assertTrue(circuitBreakerService.blockedKeys().isEmpty());
+        assertTrue(circuitBreakerService.isClosed("email", "tenant-a"));
+    }
+
+    @Test
+    void testOpenDurationElapsed_AdmitsProbesThenCloses() {
+        // Given
+        trip("email", "tenant-a");
+        clock.advance(Duration.ofSeconds(30));
+
+        // When
+        assertTrue(circuitBreakerService.blockedKeys().isEmpty());
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-a"));
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-a"));
+
+        // Then
+        assertFalse(circuitBreakerService.tryAcquire("email", "tenant-a"));
+        assertFalse(circuitBreakerService.blockedKeys().isEmpty());
+
+        circuitBreakerService.recordOutcome("email", "tenant-a", true);
+        circuitBreakerService.recordOutcome("email", "tenant-a", true);
+        assertTrue(circuitBreakerService.isClosed("email", "tenant-a"));
+        assertTrue(circuitBreakerService.blockedKeys().isEmpty());
+        assertTrue(circuitBreakerService.getTrippedBreakers().isEmpty());
+    }
+
+    @Test
+    void testFailedProbe_Reopens() {
+        // Given
+        trip("email", "tenant-a");
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-a"));
+
+        // When
+        circuitBreakerService.recordOutcome("email", "tenant-a", false);
+
+        // Then
+        assertFalse(circuitBreakerService.tryAcquire("email", "tenant-a"));
+        assertEquals(CircuitBreakerService.State.OPEN, circuitBreakerService.getTrippedBreakers().get(0).getState());
+        assertEquals(2, circuitBreakerService.getOpenedBreakers());
+    }
+
+    @Test
+    void testRelease_ReturnsUnusedProbePermit() {
+        // Given
+        trip("email", "tenant-a");
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-a"));
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-a"));
+
+        // When
+        circuitBreakerService.release("email", "tenant-a");
+
+        // Then
+        assertTrue(circuitBreakerService.blockedKeys().isEmpty());
+        assertTrue(circuitBreakerService.tryAcquire("email", "tenant-a"));
+    }
+
+    private void trip(String jobType, String tenantId) {
+        for (int i = 0; i < 4; i++) {
+            circuitBreakerService.recordOutcome(jobType, tenantId, false);
+        }
+        assertFalse(circuitBreakerService.isClosed(jobType, tenantId));
+    }
+}
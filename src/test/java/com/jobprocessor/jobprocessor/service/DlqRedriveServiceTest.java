@@ -0,0 +1,155 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.RedriveRequest;
+import com.jobprocessor.jobprocessor.dto.RedriveStatus;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DlqRedriveServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobService jobService;
+
+    private DlqRedriveService dlqRedriveService;
+
+    @BeforeEach
+    void setUp() {
+        JobProcessorProperties properties = new JobProcessorProperties();
+        properties.getRedrive().setBatchSize(10);
+        properties.getRedrive().setMaxRatePerSecond(1000);
+
+        dlqRedriveService = new DlqRedriveService(jobRepository, jobService, properties,
+                new MutableClock(Instant.parse("2025-01-01T12:00:00Z")));
+        lenient().when(jobService.redriveJobs(anyList())).thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dlqRedriveService.stop();
+    }
+
+    @Test
+    void testStartRedrive_PacesBatchesToRequestedRate() {
+        // Given
+        when(findIds()).thenReturn(ids(10), ids(10), ids(10), ids(10), ids(10), List.of());
+
+        // When
+        long startNanos = System.nanoTime();
+        RedriveStatus started = dlqRedriveService.startRedrive(request(100));
+        RedriveStatus finished = awaitFinished(started.getId());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Then
+        assertEquals(RedriveStatus.State.COMPLETED, finished.getState());
+        assertEquals(50, finished.getRedrivenJobs());
+        assertEquals(50, finished.getScannedJobs());
+        // 50 jobs at 100/s are held back until half a second after the start
+        assertTrue(elapsedMillis >= 450, "redrive finished after " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void testCancelRedrive_MidRun_StopsBeforeNextBatch() {
+        // Given
+        when(findIds()).thenAnswer(invocation -> ids(1));
+        RedriveStatus started = dlqRedriveService.startRedrive(request(1));
+        awaitRedriven(started.getId(), 1);
+
+        // When
+        dlqRedriveService.cancelRedrive(started.getId());
+        RedriveStatus finished = awaitFinished(started.getId());
+
+        // Then
+        assertEquals(RedriveStatus.State.CANCELLED, finished.getState());
+        assertEquals(1, finished.getRedrivenJobs());
+        verify(jobService, times(1)).redriveJobs(anyList());
+    }
+
+    @Test
+    void testGetRedrive_ReportsClampedRateAndFailure() {
+        // Given
+        when(findIds()).thenThrow(new IllegalStateException("database unavailable"));
+
+        // When
+        RedriveStatus started = dlqRedriveService.startRedrive(request(50_000));
+        RedriveStatus finished = awaitFinished(started.getId());
+
+        // Then
+        assertEquals(1000, finished.getRatePerSecond());
+        assertEquals("tenant-a", finished.getTenantId());
+        assertEquals(RedriveStatus.State.FAILED, finished.getState());
+        assertEquals("database unavailable", finished.getFailureReason());
+        assertEquals(NOW, finished.getStartedAt());
+        assertEquals(NOW, finished.getFinishedAt());
+        assertEquals(List.of(started.getId()),
+                dlqRedriveService.getRedrives().stream().map(RedriveStatus::getId).toList());
+    }
+
+    @Test
+    void testGetRedrive_Unknown_Throws() {
+        assertThrows(DlqRedriveService.RedriveNotFoundException.class,
+                () -> dlqRedriveService.getRedrive(UUID.randomUUID()));
+    }
+
+    private List<UUID> findIds() {
+        return jobRepository.findIdsForRedrive(eq(JobStatus.DLQ), any(), any(), any(), any(), any(), any());
+    }
+
+    private static RedriveRequest request(int ratePerSecond) {
+        RedriveRequest request = new RedriveRequest();
+        request.setTenantId("tenant-a");
+        request.setRatePerSecond(ratePerSecond);
+        return request;
+    }
+
+    private static List<UUID> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    private RedriveStatus awaitFinished(UUID redriveId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            RedriveStatus status = dlqRedriveService.getRedrive(redriveId);
+            // The state is written after the finish time, so a final state implies both
+            if (status.getState() != RedriveStatus.State.QUEUED && status.getState() != RedriveStatus.State.RUNNING) {
+                return status;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return fail("Redrive did not finish");
+    }
+
+    private void awaitRedriven(UUID redriveId, long redriven) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dlqRedriveService.getRedrive(redriveId).getRedrivenJobs() < redriven) {
+            assertTrue(System.nanoTime() < deadline, "Redrive made no progress");
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+}
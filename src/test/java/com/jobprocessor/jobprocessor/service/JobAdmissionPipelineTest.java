@@ -0,0 +1,157 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobRequest;
+import com.jobprocessor.jobprocessor.dto.JobResponse;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobAdmissionPipelineTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private RateLimitingService rateLimitingService;
+
+    @Mock
+    private AdmissionControlService admissionControlService;
+
+    @Mock
+    private JobStatusCache jobStatusCache;
+
+    private JobProcessorProperties properties;
+    private JobAdmissionPipeline jobAdmissionPipeline;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobProcessorProperties();
+        properties.getAdmission().setAsyncEnabled(true);
+        properties.getAdmission().setBufferCapacity(3);
+        properties.getAdmission().setWriterBatchSize(10);
+        properties.getAdmission().setWriterLingerMs(20);
+        properties.getAdmission().setWriterMaxBackoffMs(50);
+
+        lenient().when(jobService.newJob(any(), anyString(), anyString()))
+                .thenAnswer(invocation -> job(invocation.getArgument(1)));
+        lenient().when(jobService.toJobResponse(any())).thenReturn(new JobResponse());
+        lenient().when(rateLimitingService.tryRecordSubmission(anyString())).thenReturn(true);
+
+        jobAdmissionPipeline = new JobAdmissionPipeline(jobService, rateLimitingService, admissionControlService,
+                jobStatusCache, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        jobAdmissionPipeline.stop();
+    }
+
+    @Test
+    void testAdmit_BufferFull_RejectsWithoutBlocking() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            jobAdmissionPipeline.admit(new JobRequest(), "tenant-a");
+        }
+
+        // When & Then
+        assertThrows(JobService.OverloadedException.class,
+                () -> jobAdmissionPipeline.admit(new JobRequest(), "tenant-a"));
+        assertEquals(3, jobAdmissionPipeline.getAcceptedJobs());
+        assertEquals(1, jobAdmissionPipeline.getRejectedJobs());
+        assertEquals(3, jobAdmissionPipeline.getBufferDepth());
+    }
+
+    @Test
+    void testWriter_PersistsBufferedJobsInOneBatch() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            jobAdmissionPipeline.admit(new JobRequest(), "tenant-a");
+        }
+
+        // When
+        jobAdmissionPipeline.start();
+
+        // Then
+        awaitPersisted(3);
+        verify(jobService, times(1)).persistAdmittedJobs(anyList());
+        assertEquals(1, jobAdmissionPipeline.getWrittenBatches());
+    }
+
+    @Test
+    void testWriter_ConstraintViolation_FallsBackToSingleRows() {
+        // Given
+        Job bad = job("tenant-a");
+        when(jobService.newJob(any(), anyString(), anyString()))
+                .thenReturn(job("tenant-a"), bad, job("tenant-a"));
+        doAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            if (jobs.contains(bad)) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return null;
+        }).when(jobService).persistAdmittedJobs(anyList());
+        for (int i = 0; i < 3; i++) {
+            jobAdmissionPipeline.admit(new JobRequest(), "tenant-a");
+        }
+
+        // When
+        jobAdmissionPipeline.start();
+
+        // Then
+        awaitPersisted(2);
+        verify(jobService, timeout(2000)).persistAdmittedJobs(List.of(bad));
+        verify(jobStatusCache, timeout(2000)).invalidate(bad.getId());
+    }
+
+    @Test
+    void testWriter_DatabaseUnreachable_KeepsRetryingTheBatch() {
+        // Given
+        doThrow(new CannotCreateTransactionException("Connection refused"))
+                .doThrow(new IllegalStateException("Pool closed"))
+                .doNothing()
+                .when(jobService).persistAdmittedJobs(anyList());
+        jobAdmissionPipeline.admit(new JobRequest(), "tenant-a");
+
+        // When
+        jobAdmissionPipeline.start();
+
+        // Then
+        awaitPersisted(1);
+        verify(jobService, times(3)).persistAdmittedJobs(anyList());
+    }
+
+    private static Job job(String tenantId) {
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .status(JobStatus.PENDING)
+                .priority(0)
+                .build();
+    }
+
+    private void awaitPersisted(long expected) {
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (jobAdmissionPipeline.getPersistedJobs() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, jobAdmissionPipeline.getPersistedJobs());
+    }
+}
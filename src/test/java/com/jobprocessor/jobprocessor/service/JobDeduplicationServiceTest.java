@@ -0,0 +1,80 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobDeduplicationServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    private JobDeduplicationService jobDeduplicationService;
+
+    @BeforeEach
+    void setUp() {
+        jobDeduplicationService = new JobDeduplicationService(jobRepository, new JobProcessorProperties(),
+                changeFeedService, new MutableClock(Instant.parse("2025-01-01T12:00:00Z")));
+    }
+
+    @Test
+    void testResolveFollowers_CompletedLeader_SharesStoredResult() {
+        // Given
+        Job leader = Job.builder()
+                .id(UUID.randomUUID())
+                .status(JobStatus.COMPLETED)
+                .payloadHash("hash")
+                .resultStoreId("store-a")
+                .resultSegment(3L)
+                .resultOffset(128L)
+                .resultLength(64)
+                .build();
+        when(jobRepository.resolveFollowers(leader.getId(), JobStatus.PENDING, JobStatus.COMPLETED, null,
+                "store-a", 3L, 128L, 64, NOW)).thenReturn(2);
+
+        // When
+        int resolved = jobDeduplicationService.resolveFollowers(leader, NOW);
+
+        // Then
+        assertEquals(2, resolved);
+        assertEquals(2, jobDeduplicationService.getSavedExecutions());
+        verify(changeFeedService).recordFollowers(leader.getId(), NOW);
+    }
+
+    @Test
+    void testResolveFollowers_LeaderStillRunning_LeavesFollowers() {
+        // Given
+        Job leader = Job.builder()
+                .id(UUID.randomUUID())
+                .status(JobStatus.RUNNING)
+                .payloadHash("hash")
+                .build();
+
+        // When
+        int resolved = jobDeduplicationService.resolveFollowers(leader, NOW);
+
+        // Then
+        assertEquals(0, resolved);
+        verify(jobRepository, never()).resolveFollowers(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+}
@@ -1,24 +1,39 @@
 package com.jobprocessor.jobprocessor.service;
 
 import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.DashboardStats;
+import com.jobprocessor.jobprocessor.dto.JobAcknowledgement;
 import com.jobprocessor.jobprocessor.dto.JobRequest;
 import com.jobprocessor.jobprocessor.dto.JobResponse;
 import com.jobprocessor.jobprocessor.model.Job;
 import com.jobprocessor.jobprocessor.model.JobStatus;
+import com.jobprocessor.jobprocessor.model.ReadyJob;
 import com.jobprocessor.jobprocessor.repository.JobRepository;
+import com.jobprocessor.jobprocessor.repository.ReadyJobRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,15 +42,44 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private ReadyJobRepository readyJobRepository;
+
     @Mock
     private RateLimitingService rateLimitingService;
 
     @Mock
     private JobProcessorProperties properties;
 
+    @Mock
+    private JobStatusCache jobStatusCache;
+
+    @Mock
+    private SpanRecorder spanRecorder;
+
+    @Mock
+    private JobDeduplicationService jobDeduplicationService;
+
+    @Mock
+    private AdmissionControlService admissionControlService;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private CircuitBreakerService circuitBreakerService;
+
+    @Mock
+    private WorkloadCaptureService workloadCaptureService;
+
+    @Spy
+    private MutableClock clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+
     @InjectMocks
     private JobService jobService;
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
     private JobProcessorProperties.Worker workerConfig;
     private JobProcessorProperties rateLimitConfig;
 
@@ -48,7 +92,10 @@ class JobServiceTest {
         rateLimitConfig = new JobProcessorProperties();
         rateLimitConfig.setWorker(workerConfig);
 
-        when(properties.getWorker()).thenReturn(workerConfig);
+        lenient().when(properties.workerFor(Job.DEFAULT_QUEUE)).thenReturn(workerConfig);
+        lenient().when(properties.getPartitioning()).thenReturn(new JobProcessorProperties.Partitioning());
+        lenient().when(circuitBreakerService.tryAcquire(any(), any())).thenReturn(true);
+        lenient().when(circuitBreakerService.isClosed(any(), any())).thenReturn(true);
     }
 
     @Test
@@ -82,6 +129,9 @@ class JobServiceTest {
         assertEquals(JobStatus.PENDING, response.getStatus());
         assertEquals(tenantId, response.getTenantId());
         verify(jobRepository, times(1)).save(any(Job.class));
+        verify(readyJobRepository, times(1)).save(any(ReadyJob.class));
+        verify(changeFeedService).record(savedJob);
+        verify(workloadCaptureService).recordSubmitAfterCommit(savedJob);
     }
 
     @Test
@@ -113,6 +163,7 @@ class JobServiceTest {
         assertNotNull(response);
         assertEquals(JobStatus.COMPLETED, response.getStatus());
         verify(jobRepository, never()).save(any(Job.class));
+        verify(workloadCaptureService, never()).recordSubmitAfterCommit(any());
     }
 
     @Test
@@ -132,6 +183,241 @@ class JobServiceTest {
         verify(jobRepository, never()).save(any(Job.class));
     }
 
+    @Test
+    void testSubmitJob_BacklogFull_Shed() {
+        // Given
+        JobRequest request = new JobRequest();
+        request.setPayload("{\"task\": \"test\"}");
+        String tenantId = "test-tenant";
+
+        doThrow(new JobService.OverloadedException("Job backlog is full", 30))
+                .when(admissionControlService).checkAdmission(tenantId, 0);
+
+        // When & Then
+        JobService.OverloadedException e = assertThrows(JobService.OverloadedException.class,
+                () -> jobService.submitJob(request, tenantId));
+        assertEquals(30, e.getRetryAfterSeconds());
+        verify(rateLimitingService, never()).canSubmitJob(any());
+        verify(jobRepository, never()).save(any(Job.class));
+        verify(admissionControlService, never()).onAdmitted(any());
+    }
+
+    @Test
+    void testSubmitJob_NamedQueue_UsesQueueRetryLimit() {
+        // Given
+        JobRequest request = new JobRequest();
+        request.setPayload("{\"task\": \"test\"}");
+        request.setQueue("bulk");
+        String tenantId = "test-tenant";
+
+        JobProcessorProperties.Worker bulkConfig = new JobProcessorProperties.Worker();
+        bulkConfig.setMaxRetries(7);
+        when(properties.workerFor("bulk")).thenReturn(bulkConfig);
+        when(rateLimitingService.canSubmitJob(tenantId)).thenReturn(true);
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        JobResponse response = jobService.submitJob(request, tenantId);
+
+        // Then
+        assertEquals("bulk", response.getQueue());
+        assertEquals(7, response.getMaxRetries());
+        verify(readyJobRepository).save(argThat((ReadyJob ready) -> "bulk".equals(ready.getQueue())));
+    }
+
+    @Test
+    void testSubmitJob_UnknownQueue_Rejected() {
+        // Given
+        JobRequest request = new JobRequest();
+        request.setPayload("{\"task\": \"test\"}");
+        request.setQueue("missing");
+        String tenantId = "test-tenant";
+
+        when(rateLimitingService.canSubmitJob(tenantId)).thenReturn(true);
+
+        // When & Then
+        assertThrows(JobService.UnknownQueueException.class, () -> jobService.submitJob(request, tenantId));
+        verify(jobRepository, never()).save(any(Job.class));
+    }
+
+    @Test
+    void testSubmitJob_DedupEnabled_AttachesToInFlightLeader() {
+        // Given
+        JobRequest request = new JobRequest();
+        request.setPayload("{\"task\": \"test\"}");
+        String tenantId = "test-tenant";
+
+        Job leader = Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .status(JobStatus.RUNNING)
+                .build();
+
+        when(rateLimitingService.canSubmitJob(tenantId)).thenReturn(true);
+        when(jobDeduplicationService.isEnabled()).thenReturn(true);
+        when(jobDeduplicationService.hash(request.getPayload())).thenReturn("hash");
+        when(jobDeduplicationService.findLeader(tenantId, "hash")).thenReturn(Optional.of(leader));
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        JobResponse response = jobService.submitJob(request, tenantId);
+
+        // Then
+        assertEquals(leader.getId(), response.getLeaderJobId());
+        assertEquals(JobStatus.PENDING, response.getStatus());
+        verify(readyJobRepository, never()).save(any(ReadyJob.class));
+    }
+
+    @Test
+    void testLeaseJob_ClaimsFromReadyQueue() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        Job job = Job.builder()
+                .id(jobId)
+                .tenantId("test-tenant")
+                .status(JobStatus.RUNNING)
+                .maxRetries(3)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        ReadyJob ready = ReadyJob.of(job, job.getCreatedAt());
+
+        when(readyJobRepository.findLeaseCandidates(eq(Job.DEFAULT_QUEUE), anyInt(), any(), any())).thenReturn(List.of(ready));
+        when(readyJobRepository.claim(jobId)).thenReturn(1);
+        when(jobRepository.leaseJob(eq(jobId), eq(JobStatus.PENDING), eq(JobStatus.RUNNING), any())).thenReturn(1);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+
+        // When
+        Job leased = jobService.leaseJob(Job.DEFAULT_QUEUE);
+
+        // Then
+        assertEquals(jobId, leased.getId());
+        assertNotNull(leased.getStartedAt());
+        verify(jobStatusCache).invalidate(jobId);
+        verify(clock, times(1)).millis();
+        verify(clock, never()).instant();
+    }
+
+    @Test
+    void testBackfillReadyQueue_ConcurrentBackfill_Absorbed() {
+        // Given
+        when(readyJobRepository.backfill(JobStatus.PENDING))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When & Then
+        assertDoesNotThrow(() -> jobService.backfillReadyQueue());
+    }
+
+    @Test
+    void testRepartitionStaleRows_MovesRowsAboveCountToTenantPartition() {
+        // Given
+        JobProcessorProperties.Partitioning partitioning = new JobProcessorProperties.Partitioning();
+        partitioning.setPartitionCount(4);
+        when(properties.getPartitioning()).thenReturn(partitioning);
+        when(jobRepository.findTenantsOutsidePartitions(4)).thenReturn(List.of("tenant-a", "tenant-b"));
+        when(jobRepository.repartition(eq("tenant-a"), eq(4), anyInt())).thenReturn(3);
+        when(jobRepository.repartition(eq("tenant-b"), eq(4), anyInt())).thenReturn(1);
+
+        // When
+        jobService.repartitionStaleRows();
+
+        // Then
+        int partitionA = Math.floorMod("tenant-a".hashCode(), 4);
+        int partitionB = Math.floorMod("tenant-b".hashCode(), 4);
+        verify(jobRepository).repartition("tenant-a", 4, partitionA);
+        verify(readyJobRepository).repartition("tenant-a", 4, partitionA);
+        verify(jobRepository).repartition("tenant-b", 4, partitionB);
+        verify(readyJobRepository).repartition("tenant-b", 4, partitionB);
+    }
+
+    @Test
+    void testLeaseJob_LostClaim_DoesNotTouchJob() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        ReadyJob ready = ReadyJob.builder()
+                .jobId(jobId)
+                .tenantId("test-tenant")
+                .partitionId(0)
+                .priority(0)
+                .dueAt(LocalDateTime.now())
+                .build();
+
+        when(readyJobRepository.findLeaseCandidates(eq(Job.DEFAULT_QUEUE), anyInt(), any(), any())).thenReturn(List.of(ready));
+        when(readyJobRepository.claim(jobId)).thenReturn(0);
+
+        // When
+        Job leased = jobService.leaseJob(Job.DEFAULT_QUEUE);
+
+        // Then
+        assertNull(leased);
+        verify(jobRepository, never()).leaseJob(any(), any(), any(), any());
+        assertTrue(jobService.getLeaseConflicts() > 0);
+    }
+
+    @Test
+    void testLeaseJob_OpenBreaker_ExcludesItsJobsFromTheQuery() {
+        // Given
+        Set<String> blocked = Set.of(CircuitBreakerService.key("email", "test-tenant"));
+        when(circuitBreakerService.blockedKeys()).thenReturn(blocked);
+        when(readyJobRepository.findLeaseCandidatesExcluding(eq(Job.DEFAULT_QUEUE), anyInt(), any(), eq(blocked), any()))
+                .thenReturn(List.of());
+
+        // When
+        Job leased = jobService.leaseJob(Job.DEFAULT_QUEUE);
+
+        // Then
+        assertNull(leased);
+        verify(readyJobRepository, never()).findLeaseCandidates(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testLeaseJob_ProbeDenied_SkipsCandidate() {
+        // Given
+        Job job = jobIn(JobStatus.PENDING);
+        when(readyJobRepository.findLeaseCandidates(eq(Job.DEFAULT_QUEUE), anyInt(), any(), any()))
+                .thenReturn(List.of(ReadyJob.of(job, NOW)));
+        when(circuitBreakerService.tryAcquire(job.getJobType(), "test-tenant")).thenReturn(false);
+
+        // When
+        Job leased = jobService.leaseJob(Job.DEFAULT_QUEUE);
+
+        // Then
+        assertNull(leased);
+        verify(readyJobRepository, never()).claim(any());
+    }
+
+    @Test
+    void testAcknowledgeJob_FeedsCircuitBreaker() {
+        // Given
+        Job job = jobIn(JobStatus.RUNNING);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // When
+        jobService.acknowledgeJob(job.getId(), false, "downstream unavailable");
+
+        // Then
+        verify(circuitBreakerService).recordOutcome(job.getJobType(), "test-tenant", false);
+    }
+
+    @Test
+    void testAcknowledgeJob_InTransaction_FeedsCircuitBreakerOnlyAfterCommit() {
+        // Given
+        Job job = jobIn(JobStatus.RUNNING);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            jobService.acknowledgeJob(job.getId(), false, "downstream unavailable");
+
+            // Then
+            verify(circuitBreakerService, never()).recordOutcome(any(), any(), anyBoolean());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(circuitBreakerService).recordOutcome(job.getJobType(), "test-tenant", false);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void testGetJobStatus_Success() {
         // Given
@@ -155,6 +441,25 @@ class JobServiceTest {
         assertEquals(JobStatus.RUNNING, response.getStatus());
     }
 
+    @Test
+    void testGetJobStatus_ServedFromCache() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        JobResponse cached = JobResponse.builder()
+                .id(jobId)
+                .status(JobStatus.COMPLETED)
+                .build();
+
+        when(jobStatusCache.get(jobId)).thenReturn(cached);
+
+        // When
+        JobResponse response = jobService.getJobStatus(jobId);
+
+        // Then
+        assertSame(cached, response);
+        verify(jobRepository, never()).findById(any());
+    }
+
     @Test
     void testGetJobStatus_NotFound() {
         // Given
@@ -167,6 +472,28 @@ class JobServiceTest {
         });
     }
 
+    @Test
+    void testGetDashboardStats_BuiltFromGroupedCounts() {
+        // Given
+        when(jobRepository.countGroupedByStatus()).thenReturn(List.of(
+                new Object[] {JobStatus.PENDING, 4L},
+                new Object[] {JobStatus.COMPLETED, 10L},
+                new Object[] {JobStatus.DLQ, 1L}));
+        when(circuitBreakerService.getTrippedBreakers()).thenReturn(List.of());
+
+        // When
+        DashboardStats stats = jobService.getDashboardStats();
+
+        // Then
+        assertEquals(4, stats.getPendingJobs());
+        assertEquals(0, stats.getRunningJobs());
+        assertEquals(10, stats.getCompletedJobs());
+        assertEquals(0, stats.getFailedJobs());
+        assertEquals(1, stats.getDlqJobs());
+        assertEquals(15, stats.getTotalJobs());
+        verify(jobRepository, never()).findByStatus(any());
+    }
+
     @Test
     void testAcknowledgeJob_Success() {
         // Given
@@ -188,8 +515,47 @@ class JobServiceTest {
 
         // Then
         assertEquals(JobStatus.COMPLETED, job.getStatus());
-        assertNotNull(job.getCompletedAt());
+        assertEquals(NOW, job.getCompletedAt());
+        assertEquals(NOW, job.getUpdatedAt());
         verify(jobRepository, times(1)).save(job);
+        verify(changeFeedService).record(job);
+    }
+
+    @Test
+    void testSubmitAndAcknowledge_StampedFromOneClockReadingEach() {
+        // Given
+        JobRequest request = new JobRequest();
+        request.setPayload("{\"task\": \"test\"}");
+        String tenantId = "test-tenant";
+
+        when(rateLimitingService.canSubmitJob(tenantId)).thenReturn(true);
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        JobResponse response = jobService.submitJob(request, tenantId);
+        verify(clock, times(1)).millis();
+        Job job = Job.builder()
+                .id(response.getId())
+                .tenantId(tenantId)
+                .status(JobStatus.RUNNING)
+                .retryCount(0)
+                .maxRetries(3)
+                .createdAt(response.getCreatedAt())
+                .updatedAt(response.getUpdatedAt())
+                .build();
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        clock.advance(Duration.ofSeconds(90));
+        jobService.acknowledgeJob(job.getId(), false, "Test error");
+
+        // Then
+        verify(clock, times(2)).millis();
+        verify(clock, never()).instant();
+        assertEquals(NOW, response.getCreatedAt());
+        assertEquals(NOW, response.getUpdatedAt());
+        assertEquals(NOW, job.getCreatedAt());
+        assertEquals(NOW.plusSeconds(90), job.getUpdatedAt());
+        verify(readyJobRepository).save(argThat((ReadyJob ready) ->
+                ready.getDueAt().equals(NOW.plusSeconds(90))));
     }
 
     @Test
@@ -216,6 +582,53 @@ class JobServiceTest {
         assertEquals(1, job.getRetryCount());
         assertEquals("Test error", job.getErrorMessage());
         verify(jobRepository, times(1)).save(job);
+        verify(readyJobRepository, times(1)).save(any(ReadyJob.class));
+    }
+
+    @Test
+    void testReclaimExpiredLease_ClaimWon_RetriesJob() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        LocalDateTime leasedAt = NOW.minusMinutes(5);
+        Job job = Job.builder()
+                .id(jobId)
+                .status(JobStatus.RUNNING)
+                .retryCount(0)
+                .maxRetries(3)
+                .leasedAt(leasedAt)
+                .createdAt(leasedAt)
+                .updatedAt(leasedAt)
+                .build();
+
+        when(jobRepository.claimExpiredLease(eq(jobId), eq(JobStatus.RUNNING), eq(leasedAt), any())).thenReturn(1);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+
+        // When
+        boolean reclaimed = jobService.reclaimExpiredLease(jobId, leasedAt, "Lease expired after 90000ms");
+
+        // Then
+        assertTrue(reclaimed);
+        assertEquals(JobStatus.PENDING, job.getStatus());
+        assertEquals(1, job.getRetryCount());
+        assertEquals("Lease expired after 90000ms", job.getErrorMessage());
+        verify(readyJobRepository).save(any(ReadyJob.class));
+        assertEquals(1, jobService.getReclaimedLeases());
+    }
+
+    @Test
+    void testReclaimExpiredLease_ClaimLost_LeavesJob() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        LocalDateTime leasedAt = NOW.minusMinutes(5);
+        when(jobRepository.claimExpiredLease(eq(jobId), eq(JobStatus.RUNNING), eq(leasedAt), any())).thenReturn(0);
+
+        // When
+        boolean reclaimed = jobService.reclaimExpiredLease(jobId, leasedAt, "Lease expired after 90000ms");
+
+        // Then
+        assertFalse(reclaimed);
+        verify(jobRepository, never()).findById(any());
+        verify(jobRepository, never()).save(any(Job.class));
     }
 
     @Test
@@ -242,5 +655,116 @@ class JobServiceTest {
         assertEquals(3, job.getRetryCount());
         assertEquals("Final error", job.getErrorMessage());
         verify(jobRepository, times(1)).save(job);
+        verify(readyJobRepository, never()).save(any(ReadyJob.class));
+    }
+
+    @Test
+    void testAcknowledgeJob_NotRunning_Ignored() {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        Job job = Job.builder()
+                .id(jobId)
+                .status(JobStatus.PENDING)
+                .retryCount(0)
+                .maxRetries(3)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+
+        // When
+        jobService.acknowledgeJob(jobId, true, null);
+
+        // Then
+        assertEquals(JobStatus.PENDING, job.getStatus());
+        verify(jobRepository, never()).save(any(Job.class));
+        verify(changeFeedService, never()).record(any());
+    }
+
+    @Test
+    void testLeaseBatch_LeasesClaimedCompatibleJobs() {
+        // Given
+        Job first = jobIn(JobStatus.RUNNING);
+        first.setJobType("email");
+        Job claimed = jobIn(JobStatus.RUNNING);
+        UUID lostId = UUID.randomUUID();
+
+        when(readyJobRepository.findBatchCandidates(eq(Job.DEFAULT_QUEUE), eq(first.getPartitionId()), eq("test-tenant"), eq("email"),
+                eq(NOW), any()))
+                .thenReturn(List.of(ReadyJob.of(claimed, NOW), ReadyJob.builder().jobId(lostId).build()));
+        when(readyJobRepository.claim(claimed.getId())).thenReturn(1);
+        when(readyJobRepository.claim(lostId)).thenReturn(0);
+        when(jobRepository.leaseJob(claimed.getId(), JobStatus.PENDING, JobStatus.RUNNING, NOW)).thenReturn(1);
+        when(jobRepository.findAllById(List.of(claimed.getId()))).thenReturn(List.of(claimed));
+
+        // When
+        List<Job> leased = jobService.leaseBatch(first, 10);
+
+        // Then
+        assertEquals(List.of(claimed), leased);
+        assertEquals(NOW, claimed.getStartedAt());
+        verify(jobRepository, never()).leaseJob(eq(lostId), any(), any(), any());
+        verify(admissionControlService).onLeased("test-tenant");
+    }
+
+    @Test
+    void testAcknowledgeBatch_AppliesEachOutcomeInOneWrite() {
+        // Given
+        Job succeeded = jobIn(JobStatus.RUNNING);
+        Job retried = jobIn(JobStatus.RUNNING);
+        Job released = jobIn(JobStatus.PENDING);
+        List<JobAcknowledgement> acknowledgements = List.of(
+                new JobAcknowledgement(succeeded.getId(), true, null, new ResultStore.Location("store-a", 1, 0, 16)),
+                new JobAcknowledgement(retried.getId(), false, "Test error", null),
+                new JobAcknowledgement(released.getId(), true, null, null));
+
+        when(jobRepository.findAllById(any())).thenReturn(List.of(succeeded, retried, released));
+
+        // When
+        int acknowledged = jobService.acknowledgeBatch(acknowledgements);
+
+        // Then
+        assertEquals(2, acknowledged);
+        assertEquals(JobStatus.COMPLETED, succeeded.getStatus());
+        assertEquals(16, succeeded.getResultLength());
+        assertEquals("store-a", succeeded.getResultStoreId());
+        assertEquals(JobStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getRetryCount());
+        assertEquals(JobStatus.PENDING, released.getStatus());
+        verify(jobRepository).saveAll(List.of(succeeded, retried));
+        verify(changeFeedService).recordAll(List.of(succeeded, retried));
+        verify(readyJobRepository).saveAll(argThat((List<ReadyJob> ready) ->
+                ready.size() == 1 && ready.get(0).getJobId().equals(retried.getId())));
+        verify(jobRepository, never()).save(any(Job.class));
+    }
+
+    private Job jobIn(JobStatus status) {
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId("test-tenant")
+                .jobType(Job.DEFAULT_TYPE)
+                .status(status)
+                .retryCount(0)
+                .maxRetries(3)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    @Test
+    void testReleaseJobs_RequeuesWithoutBurningRetry() {
+        // Given
+        List<UUID> jobIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(jobRepository.releaseJobs(eq(jobIds), eq(JobStatus.RUNNING), eq(JobStatus.PENDING), any()))
+                .thenReturn(2);
+
+        // When
+        int released = jobService.releaseJobs(jobIds);
+
+        // Then
+        assertEquals(2, released);
+        verify(readyJobRepository).enqueueJobs(jobIds, JobStatus.PENDING);
+        verify(jobStatusCache).invalidateAll(jobIds);
     }
 }
@@ -0,0 +1,65 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobResponse;
+import com.jobprocessor.jobprocessor.model.JobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobStatusCacheTest {
+
+    private final JobStatusCache jobStatusCache = new JobStatusCache(new JobProcessorProperties());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testInvalidate_NoTransaction_EvictsImmediately() {
+        // Given
+        JobResponse response = response(JobStatus.DLQ);
+        jobStatusCache.put(response);
+
+        // When
+        jobStatusCache.invalidate(response.getId());
+
+        // Then
+        assertNull(jobStatusCache.get(response.getId()));
+    }
+
+    @Test
+    void testInvalidateAll_InTransaction_EvictsOnlyAfterCommit() {
+        // Given
+        JobResponse response = response(JobStatus.DLQ);
+        jobStatusCache.put(response);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        jobStatusCache.invalidateAll(List.of(response.getId()));
+        // A read racing the transaction caches the pre-commit state again
+        jobStatusCache.put(response);
+        assertNotNull(jobStatusCache.get(response.getId()));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertNull(jobStatusCache.get(response.getId()));
+    }
+
+    private static JobResponse response(JobStatus status) {
+        return JobResponse.builder()
+                .id(UUID.randomUUID())
+                .tenantId("tenant-a")
+                .status(status)
+                .build();
+    }
+}
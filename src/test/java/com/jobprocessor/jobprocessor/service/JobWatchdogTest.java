@@ -0,0 +1,149 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.model.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobWatchdogTest {
+
+    private JobWatchdog jobWatchdog;
+
+    @BeforeEach
+    void setUp() {
+        jobWatchdog = new JobWatchdog();
+        jobWatchdog.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        jobWatchdog.stop();
+    }
+
+    @Test
+    void testOverdueExecution_TimesOutAndInterruptsWorker() throws InterruptedException {
+        // Given
+        Job job = Job.builder().id(UUID.randomUUID()).traceId("trace").build();
+        CountDownLatch timedOut = new CountDownLatch(1);
+
+        // When
+        JobWatchdog.Execution execution = jobWatchdog.register(job, 50, e -> timedOut.countDown());
+        boolean interrupted = false;
+        try {
+            Thread.sleep(5000);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+
+        // Then
+        assertTrue(interrupted);
+        assertTrue(timedOut.await(1, TimeUnit.SECONDS));
+        assertFalse(jobWatchdog.complete(execution));
+        assertEquals(1, jobWatchdog.getTimedOutExecutions());
+        assertEquals(0, jobWatchdog.getAbandonedThreads());
+    }
+
+    @Test
+    void testCompletedExecution_IsNeverTimedOut() throws InterruptedException {
+        // Given
+        Job job = Job.builder().id(UUID.randomUUID()).traceId("trace").build();
+        AtomicInteger timeouts = new AtomicInteger();
+
+        // When
+        JobWatchdog.Execution execution = jobWatchdog.register(job, 50, e -> timeouts.incrementAndGet());
+        boolean completed = jobWatchdog.complete(execution);
+        Thread.sleep(150);
+
+        // Then
+        assertTrue(completed);
+        assertEquals(0, timeouts.get());
+        assertEquals(0, jobWatchdog.getTimedOutExecutions());
+    }
+
+    @Test
+    void testReleasedExecution_CannotCompleteOrTimeOut() throws InterruptedException {
+        // Given
+        Job job = Job.builder().id(UUID.randomUUID()).traceId("trace").build();
+        AtomicInteger timeouts = new AtomicInteger();
+
+        // When
+        JobWatchdog.Execution execution = jobWatchdog.register(job, 50, e -> timeouts.incrementAndGet());
+        boolean released = jobWatchdog.release(execution);
+        Thread.sleep(150);
+
+        // Then
+        assertTrue(released);
+        assertFalse(jobWatchdog.complete(execution));
+        assertFalse(jobWatchdog.release(execution));
+        assertEquals(0, timeouts.get());
+    }
+
+    @Test
+    void testTimedOutExecution_CompletedWithoutBlocking_LeavesThreadUninterrupted() throws InterruptedException {
+        // Given
+        Job job = Job.builder().id(UUID.randomUUID()).traceId("trace").build();
+        JobWatchdog.Execution execution = jobWatchdog.register(job, 20, e -> { });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (jobWatchdog.getTimedOutExecutions() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        boolean completed = jobWatchdog.complete(execution);
+
+        // Then
+        assertFalse(completed);
+        assertDoesNotThrow(() -> Thread.sleep(100));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void testSlowTimeoutAcknowledgement_DoesNotDelayOtherDeadlines() throws InterruptedException {
+        // Given
+        CountDownLatch releaseSlowAck = new CountDownLatch(1);
+        CountDownLatch fastTimedOut = new CountDownLatch(1);
+        Thread slowWorker = new Thread(() -> {
+            jobWatchdog.register(Job.builder().id(UUID.randomUUID()).traceId("slow").build(), 20, e -> {
+                try {
+                    releaseSlowAck.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            sleepUntilInterrupted();
+        });
+        Thread fastWorker = new Thread(() -> {
+            jobWatchdog.register(Job.builder().id(UUID.randomUUID()).traceId("fast").build(), 100,
+                    e -> fastTimedOut.countDown());
+            sleepUntilInterrupted();
+        });
+
+        // When
+        slowWorker.start();
+        fastWorker.start();
+
+        // Then
+        try {
+            assertTrue(fastTimedOut.await(1, TimeUnit.SECONDS));
+        } finally {
+            releaseSlowAck.countDown();
+            slowWorker.join();
+            fastWorker.join();
+        }
+    }
+
+    private static void sleepUntilInterrupted() {
+        try {
+            Thread.sleep(5000);
+        } catch (InterruptedException ignored) {
+            // Timed out by the watchdog
+        }
+    }
+}
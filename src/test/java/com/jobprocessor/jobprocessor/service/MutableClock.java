@@ -0,0 +1,43 @@
+package com.jobprocessor.jobprocessor.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock that only moves when a test advances it.
+ */
+class MutableClock extends Clock {
+
+    private long millis;
+
+    MutableClock(Instant instant) {
+        this.millis = instant.toEpochMilli();
+    }
+
+    void advance(Duration duration) {
+        millis += duration.toMillis();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures bytes allocated per admitted submission by the tenant's rate limit window
+ * once it is warm. Covers {@link RateLimitingService#tryRecordSubmission} alone, not the
+ * rest of submit, lease or acknowledge. Report only: the figure depends on the JIT's escape analysis, so it is logged for
+ * comparison rather than asserted. Runs with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@Slf4j
+class RateLimitingAllocationBenchmarkTest {
+
+    private static final int WARMUP_SUBMISSIONS = 20_000;
+    private static final int MEASURED_SUBMISSIONS = 100_000;
+    private static final Duration SUBMISSION_INTERVAL = Duration.ofMillis(100);
+
+    @Test
+    void testTryRecordSubmission_SteadyStateAllocation() {
+        // Given
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        JobProcessorProperties properties = new JobProcessorProperties();
+        properties.getRateLimit().setMaxJobsPerMinutePerTenant(1_000);
+        properties.getRateLimit().setWindowSizeSeconds(60);
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        RateLimitingService rateLimitingService =
+                new RateLimitingService(mock(JobRepository.class), properties, clock);
+
+        // Every submission fits: ~600 live entries at one per 100ms against a limit of 1000
+        for (int i = 0; i < WARMUP_SUBMISSIONS; i++) {
+            clock.advance(SUBMISSION_INTERVAL);
+            assertTrue(rateLimitingService.tryRecordSubmission("tenant"));
+        }
+
+        // When
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_SUBMISSIONS; i++) {
+            clock.advance(SUBMISSION_INTERVAL);
+            rateLimitingService.tryRecordSubmission("tenant");
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Then
+        log.info("Rate limit window: {} bytes/submission over {} submissions",
+                String.format("%.1f", (double) allocated / MEASURED_SUBMISSIONS), MEASURED_SUBMISSIONS);
+    }
+}
@@ -6,10 +6,12 @@ import com.jobprocessor.jobprocessor.repository.JobRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -22,7 +24,7 @@ class RateLimitingServiceTest {
     @Mock
     private JobProcessorProperties properties;
 
-    @InjectMocks
+    private MutableClock clock;
     private RateLimitingService rateLimitingService;
 
     private JobProcessorProperties.RateLimit rateLimitConfig;
@@ -35,6 +37,9 @@ class RateLimitingServiceTest {
         rateLimitConfig.setWindowSizeSeconds(60);
 
         when(properties.getRateLimit()).thenReturn(rateLimitConfig);
+
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        rateLimitingService = new RateLimitingService(jobRepository, properties, clock);
     }
 
     @Test
@@ -80,4 +85,58 @@ class RateLimitingServiceTest {
         // Then
         assertFalse(result);
     }
+
+    @Test
+    void testTryRecordSubmission_SlotFreesWhenWindowPasses() {
+        // Given
+        String tenantId = "test-tenant";
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimitingService.tryRecordSubmission(tenantId));
+            clock.advance(Duration.ofSeconds(1));
+        }
+        assertFalse(rateLimitingService.tryRecordSubmission(tenantId));
+
+        // When - the first submission leaves the 60s window
+        clock.advance(Duration.ofSeconds(51));
+
+        // Then
+        assertTrue(rateLimitingService.tryRecordSubmission(tenantId));
+        assertFalse(rateLimitingService.tryRecordSubmission(tenantId));
+    }
+
+    @Test
+    void testRetryAfterSeconds_CountsDownWithClock() {
+        // Given
+        String tenantId = "test-tenant";
+        for (int i = 0; i < 10; i++) {
+            rateLimitingService.tryRecordSubmission(tenantId);
+        }
+
+        // When
+        long initial = rateLimitingService.retryAfterSeconds(tenantId);
+        clock.advance(Duration.ofSeconds(45));
+        long later = rateLimitingService.retryAfterSeconds(tenantId);
+
+        // Then
+        assertEquals(61, initial);
+        assertEquals(16, later);
+    }
+
+    @Test
+    void testTryRecordSubmission_LimitRaisedAtRuntime() {
+        // Given
+        String tenantId = "test-tenant";
+        for (int i = 0; i < 10; i++) {
+            rateLimitingService.tryRecordSubmission(tenantId);
+        }
+
+        // When
+        rateLimitConfig.setMaxJobsPerMinutePerTenant(15);
+
+        // Then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimitingService.tryRecordSubmission(tenantId));
+        }
+        assertFalse(rateLimitingService.tryRecordSubmission(tenantId));
+    }
 }
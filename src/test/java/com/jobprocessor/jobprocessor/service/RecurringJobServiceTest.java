@@ -0,0 +1,102 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.RecurringJobRequest;
+import com.jobprocessor.jobprocessor.dto.RecurringJobResponse;
+import com.jobprocessor.jobprocessor.model.RecurringJob;
+import com.jobprocessor.jobprocessor.repository.RecurringJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringJobServiceTest {
+
+    @Mock
+    private RecurringJobRepository recurringJobRepository;
+
+    @Mock
+    private JobService jobService;
+
+    private RecurringJobService recurringJobService;
+
+    @BeforeEach
+    void setUp() {
+        recurringJobService = new RecurringJobService(recurringJobRepository, jobService, new JobProcessorProperties(),
+                new MutableClock(Instant.parse("2025-01-01T12:00:00Z")));
+    }
+
+    @Test
+    void testIdempotencyKey_SameSlotSameKey() {
+        // Given
+        LocalDateTime slot = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        // When
+        String first = recurringJobService.idempotencyKey("nightly-report", slot);
+        String second = recurringJobService.idempotencyKey("nightly-report", slot);
+        String nextSlot = recurringJobService.idempotencyKey("nightly-report", slot.plusMinutes(1));
+
+        // Then
+        assertEquals(first, second);
+        assertNotEquals(first, nextSlot);
+        // The test clock runs in UTC
+        assertEquals("recurring:nightly-report:1735732800", first);
+    }
+
+    @Test
+    void testJitter_StableAndWithinBound() {
+        // Given
+        LocalDateTime slot = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        // When
+        long jitter = RecurringJobService.jitterMillis("nightly-report", slot, 10_000L);
+
+        // Then
+        assertEquals(jitter, RecurringJobService.jitterMillis("nightly-report", slot, 10_000L));
+        assertTrue(jitter >= 0 && jitter < 10_000);
+        assertEquals(0, RecurringJobService.jitterMillis("nightly-report", slot, 0L));
+    }
+
+    @Test
+    void testUpsert_SchedulesNextFiring() {
+        // Given
+        RecurringJobRequest request = new RecurringJobRequest();
+        request.setCron("0 */5 * * * *");
+        request.setPayload("{\"task\": \"report\"}");
+
+        when(recurringJobRepository.findById("report")).thenReturn(Optional.empty());
+        when(recurringJobRepository.save(any(RecurringJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RecurringJobResponse response = recurringJobService.upsert("report", request, "test-tenant");
+
+        // Then
+        assertEquals("test-tenant", response.getTenantId());
+        assertTrue(response.getEnabled());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 12, 5), response.getNextFireAt());
+        assertEquals(1, recurringJobService.getScheduledDefinitions());
+    }
+
+    @Test
+    void testUpsert_InvalidCron_Rejected() {
+        // Given
+        RecurringJobRequest request = new RecurringJobRequest();
+        request.setCron("every five minutes");
+        request.setPayload("{\"task\": \"report\"}");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> recurringJobService.upsert("report", request, "test-tenant"));
+        verify(recurringJobRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,136 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private JobService jobService;
+
+    private MutableClock clock;
+    private ResultStore resultStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        JobProcessorProperties properties = new JobProcessorProperties();
+        properties.getResults().setDirectory(directory.toString());
+        properties.getResults().setSegmentSizeBytes(16);
+        properties.getResults().setRetentionHours(1);
+
+        // Segment ages come from file modification times, so the clock starts at the real time
+        clock = new MutableClock(Instant.now());
+        resultStore = new ResultStore(jobService, properties, clock);
+        resultStore.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        resultStore.stop();
+    }
+
+    @Test
+    void testAppend_ReadBackWholeAndRange() throws IOException {
+        // Given
+        ResultStore.Location location = resultStore.append(bytes("hello world"));
+
+        // When
+        String whole = read(location, 0, location.length());
+        String range = read(location, 6, 5);
+
+        // Then
+        assertEquals("hello world", whole);
+        assertEquals("world", range);
+    }
+
+    @Test
+    void testAppend_RollsToNewSegmentWhenFull() throws IOException {
+        // Given
+        ResultStore.Location first = resultStore.append(bytes("0123456789"));
+
+        // When
+        ResultStore.Location second = resultStore.append(bytes("abcdefghij"));
+        ResultStore.Location oversized = resultStore.append(bytes("a result larger than one segment"));
+
+        // Then
+        assertNotEquals(first.segment(), second.segment());
+        assertEquals(0, second.offset());
+        assertEquals("abcdefghij", read(second, 0, second.length()));
+        assertEquals("a result larger than one segment", read(oversized, 0, oversized.length()));
+    }
+
+    @Test
+    void testSweep_DeletesExpiredSegmentsAndClearsReferences() throws IOException {
+        // Given
+        ResultStore.Location expired = resultStore.append(bytes("0123456789"));
+        ResultStore.Location active = resultStore.append(bytes("abcdefghij"));
+        clock.advance(Duration.ofHours(2));
+
+        // When
+        resultStore.sweepExpiredSegments();
+
+        // Then
+        assertFalse(resultStore.exists(expired));
+        assertTrue(resultStore.exists(active));
+        verify(jobService).clearResults(resultStore.getStoreId(), expired.segment());
+        verify(jobService, never()).clearResults(any(), eq(active.segment()));
+    }
+
+    @Test
+    void testOtherStoresLocation_IsNeitherFoundNorServed() throws IOException {
+        // Given
+        ResultStore.Location local = resultStore.append(bytes("hello world"));
+        ResultStore.Location foreign = new ResultStore.Location("another-node", local.segment(), local.offset(),
+                local.length());
+
+        // When & Then
+        assertTrue(resultStore.exists(local));
+        assertFalse(resultStore.exists(foreign));
+        assertThrows(IOException.class, () -> read(foreign, 0, foreign.length()));
+    }
+
+    @Test
+    void testRestart_KeepsStoreId() throws IOException {
+        // Given
+        String storeId = resultStore.getStoreId();
+        resultStore.stop();
+
+        // When
+        resultStore.start();
+
+        // Then
+        assertEquals(storeId, resultStore.getStoreId());
+    }
+
+    private String read(ResultStore.Location location, long start, long length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resultStore.transferTo(location, start, length, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.dto.JobTraceResponse;
+import com.jobprocessor.jobprocessor.dto.TraceSpan;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpanRecorderTest {
+
+    private static final long START_MILLIS = 1_735_732_800_000L;
+
+    @Test
+    void testFindByTraceId_OrdersSpansAndSumsDuration() {
+        // Given
+        SpanRecorder spanRecorder = recorder(16);
+        UUID jobId = UUID.randomUUID();
+        spanRecorder.record("trace-a", jobId, TraceSpan.Stage.EXECUTING, START_MILLIS + 10, millis(40));
+        spanRecorder.record("trace-a", jobId, TraceSpan.Stage.SUBMIT, START_MILLIS, millis(2));
+        spanRecorder.record("trace-b", UUID.randomUUID(), TraceSpan.Stage.SUBMIT, START_MILLIS, millis(1));
+
+        // When
+        JobTraceResponse trace = spanRecorder.findByTraceId("trace-a");
+
+        // Then
+        assertEquals(jobId, trace.getJobId());
+        assertEquals(List.of(TraceSpan.Stage.SUBMIT, TraceSpan.Stage.EXECUTING),
+                trace.getSpans().stream().map(TraceSpan::stage).toList());
+        assertEquals(50_000, trace.getTotalDurationMicros());
+        assertNull(spanRecorder.findByTraceId("trace-unknown"));
+    }
+
+    @Test
+    void testRecord_FullRing_OverwritesOldestSpans() {
+        // Given
+        SpanRecorder spanRecorder = recorder(4);
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            spanRecorder.record("trace-" + i, UUID.randomUUID(), TraceSpan.Stage.SUBMIT, START_MILLIS + i, millis(1));
+        }
+
+        // Then
+        assertEquals(List.of("trace-2", "trace-3", "trace-4", "trace-5"), spanRecorder.snapshot().stream()
+                .map(TraceSpan::traceId)
+                .sorted()
+                .toList());
+        assertNull(spanRecorder.findByTraceId("trace-0"));
+        assertNull(spanRecorder.findByTraceId("trace-1"));
+    }
+
+    @Test
+    void testSlowest_SortsJobsByTotalDurationAndLimits() {
+        // Given
+        SpanRecorder spanRecorder = recorder(16);
+        spanRecorder.record("fast", UUID.randomUUID(), TraceSpan.Stage.EXECUTING, START_MILLIS, millis(5));
+        spanRecorder.record("slow", UUID.randomUUID(), TraceSpan.Stage.EXECUTING, START_MILLIS, millis(500));
+        spanRecorder.record("medium", UUID.randomUUID(), TraceSpan.Stage.EXECUTING, START_MILLIS, millis(50));
+
+        // When
+        List<JobTraceResponse> slowest = spanRecorder.slowest(2);
+
+        // Then
+        assertEquals(List.of("slow", "medium"), slowest.stream().map(JobTraceResponse::getTraceId).toList());
+    }
+
+    private static SpanRecorder recorder(int ringBufferSize) {
+        JobProcessorProperties properties = new JobProcessorProperties();
+        properties.getTracing().setRingBufferSize(ringBufferSize);
+        return new SpanRecorder(properties);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobprocessor.jobprocessor.service;
+
+import com.jobprocessor.jobprocessor.config.JobProcessorProperties;
+import com.jobprocessor.jobprocessor.model.Job;
+import com.jobprocessor.jobprocessor.replay.WorkloadEvent;
+import com.jobprocessor.jobprocessor.replay.WorkloadTraceReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadCaptureServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path traceFile;
+    private WorkloadCaptureService workloadCaptureService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        traceFile = tempDir.resolve("workload.trace");
+        JobProcessorProperties properties = new JobProcessorProperties();
+        properties.getCapture().setEnabled(true);
+        properties.getCapture().setFile(traceFile.toString());
+
+        workloadCaptureService = new WorkloadCaptureService(properties,
+                new MutableClock(Instant.parse("2025-01-01T12:00:00Z")));
+        workloadCaptureService.start();
+    }
+
+    @Test
+    void testExecutionBeforeSubmit_IsLinkedOnceSubmitArrives() throws Exception {
+        // Given
+        Job first = job();
+        Job second = job();
+
+        // When
+        workloadCaptureService.recordSubmit(first);
+        workloadCaptureService.recordExecution(second.getId(), 40, false);
+        workloadCaptureService.recordSubmit(second);
+        workloadCaptureService.recordExecution(second.getId(), 35, true);
+        workloadCaptureService.stop();
+
+        // Then
+        List<WorkloadEvent> events = readTrace();
+        assertEquals(4, events.size());
+        assertInstanceOf(WorkloadEvent.Submit.class, events.get(0));
+        assertInstanceOf(WorkloadEvent.Submit.class, events.get(1));
+        assertEquals(1, ((WorkloadEvent.Execution) events.get(2)).submitSequence());
+        assertFalse(((WorkloadEvent.Execution) events.get(2)).success());
+        assertEquals(1, ((WorkloadEvent.Execution) events.get(3)).submitSequence());
+        assertEquals(4, workloadCaptureService.getCapturedEvents());
+    }
+
+    @Test
+    void testExecutionOfUncapturedJob_IsNotWritten() throws Exception {
+        // When
+        workloadCaptureService.recordExecution(UUID.randomUUID(), 40, true);
+        workloadCaptureService.recordSubmit(job());
+        workloadCaptureService.stop();
+
+        // Then
+        List<WorkloadEvent> events = readTrace();
+        assertEquals(1, events.size());
+        assertInstanceOf(WorkloadEvent.Submit.class, events.get(0));
+    }
+
+    private static Job job() {
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId("tenant-a")
+                .jobType(Job.DEFAULT_TYPE)
+                .queue(Job.DEFAULT_QUEUE)
+                .payload("{}")
+                .priority(0)
+                .createdAt(LocalDateTime.ofInstant(Instant.parse("2025-01-01T12:00:00Z"), ZoneOffset.UTC))
+                .build();
+    }
+
+    private List<WorkloadEvent> readTrace() throws IOException {
+        List<WorkloadEvent> events = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(traceFile);
+             WorkloadTraceReader reader = new WorkloadTraceReader(in)) {
+            WorkloadEvent event;
+            while ((event = reader.read()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}